@@ -0,0 +1,54 @@
+package com.spring.familymoments.config;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * API 응답 시간 측정 필터
+ * 최근 요청들의 평균 응답 시간(지수 가중 이동 평균)을 유지 -> 백그라운드 작업이 서버 부하를 보고 속도를 조절할 때 사용
+ */
+@Component
+public class ApiLatencyMonitor extends OncePerRequestFilter {
+    private static final double SMOOTHING = 0.1;            // 새 측정값의 가중치
+    private static final long IDLE_RESET_MILLIS = 5000;     // 이 시간 동안 요청이 없으면 부하 없음으로 간주
+
+    private final AtomicLong averageBits = new AtomicLong(Double.doubleToLongBits(0));
+    private volatile long lastRecordedAt = 0;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long start = System.currentTimeMillis();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            record(System.currentTimeMillis() - start);
+        }
+    }
+
+    private void record(long latencyMillis) {
+        averageBits.accumulateAndGet(Double.doubleToLongBits(latencyMillis), (prev, sample) -> {
+            double average = Double.longBitsToDouble(prev);
+            double next = average + SMOOTHING * (Double.longBitsToDouble(sample) - average);
+            return Double.doubleToLongBits(next);
+        });
+        lastRecordedAt = System.currentTimeMillis();
+    }
+
+    /**
+     * @return 최근 API 평균 응답 시간(ms)
+     */
+    public long getAverageLatencyMillis() {
+        if (System.currentTimeMillis() - lastRecordedAt > IDLE_RESET_MILLIS) {
+            return 0;
+        }
+        return (long) Double.longBitsToDouble(averageBits.get());
+    }
+}
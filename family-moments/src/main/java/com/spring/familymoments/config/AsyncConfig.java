@@ -0,0 +1,99 @@
+package com.spring.familymoments.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 비동기 작업용 스레드 풀 설정
+ * 요청 스레드(Tomcat)와 분리된 전용 풀에서 실행
+ */
+@EnableAsync
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * 알림 이벤트 처리용 풀
+     * 큐가 가득 차면 가장 오래된 작업을 버림 (알림 유실 < 요청 지연)
+     */
+    @Bean(name = "notificationExecutor")
+    public Executor notificationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("notification-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardOldestPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 비밀번호 해싱(PasswordEncoder) 전용 풀
+     * CPU 를 많이 쓰는 작업이라 코어 수만큼만 실행, 큐가 가득 차면 바로 거절 (-> 429 Retry-After)
+     */
+    @Bean(name = "passwordHashingExecutor")
+    public ThreadPoolTaskExecutor passwordHashingExecutor(@Value("${security.password-hashing.queue-capacity:100}") int queueCapacity) {
+        int processors = Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(processors);
+        executor.setMaxPoolSize(processors);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hashing-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 메일 전송 워커용 풀 (EmailDispatchQueue)
+     * 워커가 큐를 계속 대기하므로 풀 크기 = 워커 수
+     */
+    @Bean(name = "mailExecutor")
+    public ThreadPoolTaskExecutor mailExecutor(@Value("${mail.dispatch.workers:2}") int workers) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("mail-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 삭제 후 정리(일괄 soft delete) 작업용 풀
+     * DB 부하를 줄이기 위해 적은 스레드로 순서대로 처리, 못 받은 작업은 주기 작업이 다시 처리
+     */
+    @Bean(name = "cleanupExecutor")
+    public ThreadPoolTaskExecutor cleanupExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("cleanup-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 가족 홈 스냅샷 갱신용 풀
+     * 갱신이 밀리면 오래된 작업을 버림 (스냅샷 TTL 이 지나면 다시 계산되므로)
+     */
+    @Bean(name = "snapshotExecutor")
+    public ThreadPoolTaskExecutor snapshotExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("snapshot-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardOldestPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
@@ -25,11 +25,13 @@ public enum BaseResponseStatus {
     INVALID_USER_TYPE(false, HttpStatus.BAD_REQUEST.value(), "UserType을 올바르게 입력해주세요."),
     INVALID_REPORT_REASON(false, HttpStatus.BAD_REQUEST.value(), "유효하지 않은 게시글 신고 이유입니다."),
     INVALID_SOCIAL_TOKEN(false, HttpStatus.BAD_REQUEST.value(), "소셜 accesstoken이 유효하지 않습니다."),
+    SOCIAL_SERVER_UNAVAILABLE(false, HttpStatus.SERVICE_UNAVAILABLE.value(), "소셜 서버와의 연결이 원활하지 않습니다. 잠시 후 다시 시도해주세요."),
     TOKEN_RESPONSE_ERROR(false, HttpStatus.NOT_FOUND.value(), "값을 불러오는데 실패하였습니다."),
     EXPIRED_JWT(false, HttpStatus.UNAUTHORIZED.value(), "만료된 토큰입니다."),
     TOKEN_REISSUE_ERROR(false, 471, "토큰 발급을 실패했습니다."),
     FIND_FAIL_DATE(false, HttpStatus.BAD_REQUEST.value(), "날짜가 존재하지 않습니다."),
     INVALID_TIME_FORMAT(false, HttpStatus.INTERNAL_SERVER_ERROR.value(), "날짜 형식이 맞지 않습니다."),
+    TOO_MANY_REQUESTS(false, HttpStatus.TOO_MANY_REQUESTS.value(), "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요."),
 
     /**
      * user
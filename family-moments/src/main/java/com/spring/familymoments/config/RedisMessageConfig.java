@@ -0,0 +1,45 @@
+package com.spring.familymoments.config;
+
+import com.spring.familymoments.domain.family.FamilyMembershipCache;
+import com.spring.familymoments.domain.user.PrincipalCache;
+import com.spring.familymoments.domain.user.TokenRevocationService;
+import com.spring.familymoments.domain.user.UserAvailabilityFilter;
+import com.spring.familymoments.domain.user.UserIdPrefixIndex;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Redis pub/sub 구독 설정
+ */
+@Configuration
+public class RedisMessageConfig {
+
+    /**
+     * 구독 연결 하나로 모든 채널 수신
+     * token-revocation : 다른 서버에서 로그아웃/탈퇴 처리한 토큰 id
+     * principal-eviction : 다른 서버에서 변경/탈퇴 처리한 유저 uuid (principal 캐시 삭제)
+     * membership-eviction : 다른 서버에서 바뀐 가족 소속 (가족 소속 캐시 삭제)
+     * user-registration : 다른 서버에서 가입한 아이디/이메일 (중복 확인 필터, 아이디 검색 인덱스)
+     * user-withdrawal : 탈퇴한 아이디 (아이디 검색 인덱스)
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                       TokenRevocationService tokenRevocationService,
+                                                                       PrincipalCache principalCache,
+                                                                       FamilyMembershipCache familyMembershipCache,
+                                                                       UserAvailabilityFilter userAvailabilityFilter,
+                                                                       UserIdPrefixIndex userIdPrefixIndex) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(tokenRevocationService, new ChannelTopic(TokenRevocationService.REVOCATION_CHANNEL));
+        container.addMessageListener(principalCache, new ChannelTopic(PrincipalCache.EVICTION_CHANNEL));
+        container.addMessageListener(familyMembershipCache, new ChannelTopic(FamilyMembershipCache.EVICTION_CHANNEL));
+        container.addMessageListener(userAvailabilityFilter, new ChannelTopic(UserAvailabilityFilter.REGISTRATION_CHANNEL));
+        container.addMessageListener(userIdPrefixIndex, new ChannelTopic(UserAvailabilityFilter.REGISTRATION_CHANNEL));
+        container.addMessageListener(userIdPrefixIndex, new ChannelTopic(UserIdPrefixIndex.WITHDRAWAL_CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,47 @@
+package com.spring.familymoments.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.familymoments.domain.user.AuthService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static com.spring.familymoments.config.BaseResponseStatus.INVALID_USER_JWT;
+
+/**
+ * 로그아웃/탈퇴로 폐기된 AccessToken 차단
+ * Spring Security 필터 체인(JWT 필터)보다 먼저 실행 -> 폐기 여부는 여기서만 확인 (TokenRevocationService 의 Bloom filter + BL 키)
+ */
+@Component
+@RequiredArgsConstructor
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 1)
+public class RevokedAccessTokenFilter extends OncePerRequestFilter {
+    private static final String ACCESS_TOKEN_HEADER = "X-AUTH-TOKEN";
+
+    private final AuthService authService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String accessToken = request.getHeader(ACCESS_TOKEN_HEADER);
+        if (accessToken != null && !accessToken.isBlank() && authService.isRevoked(accessToken)) {
+            response.setStatus(INVALID_USER_JWT.getCode());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            objectMapper.writeValue(response.getWriter(), new BaseResponse<>(INVALID_USER_JWT));
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+}
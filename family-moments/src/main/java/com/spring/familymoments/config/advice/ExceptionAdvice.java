@@ -3,6 +3,7 @@ package com.spring.familymoments.config.advice;
 import com.spring.familymoments.config.BaseException;
 import com.spring.familymoments.config.BaseResponse;
 import com.spring.familymoments.config.advice.exception.InternalServerErrorException;
+import com.spring.familymoments.config.advice.exception.TooManyRequestsException;
 import com.spring.familymoments.config.response.CommonResult;
 import com.spring.familymoments.config.response.ResponseService;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +21,8 @@ import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExcep
 
 import javax.servlet.http.HttpServletRequest;
 
+import static com.spring.familymoments.config.BaseResponseStatus.TOO_MANY_REQUESTS;
+
 @RequiredArgsConstructor
 @RestControllerAdvice
 public class ExceptionAdvice extends ResponseEntityExceptionHandler {
@@ -51,6 +54,14 @@ public class ExceptionAdvice extends ResponseEntityExceptionHandler {
         return responseService.getFailResult(false, HttpStatus.INTERNAL_SERVER_ERROR.value(), e.getMessage());
     }
 
+    /** 과부하로 요청을 거절한 경우 : 429 + Retry-After **/
+    @ExceptionHandler(TooManyRequestsException.class)
+    protected ResponseEntity<BaseResponse<Object>> handleTooManyRequestsException(TooManyRequestsException ex) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(new BaseResponse<>(TOO_MANY_REQUESTS));
+    }
+
     /** validation exception **/
     @Override
     protected ResponseEntity<Object> handleMethodArgumentNotValid(MethodArgumentNotValidException ex, HttpHeaders headers,
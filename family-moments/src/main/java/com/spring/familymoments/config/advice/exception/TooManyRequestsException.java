@@ -0,0 +1,13 @@
+package com.spring.familymoments.config.advice.exception;
+
+import lombok.Getter;
+
+@Getter
+public class TooManyRequestsException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(long retryAfterSeconds) {
+        super();
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -3,6 +3,9 @@ package com.spring.familymoments.domain.alarmSetting;
 import com.spring.familymoments.domain.alarmSetting.entity.AlarmSetting;
 import com.spring.familymoments.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -10,4 +13,10 @@ import java.util.Optional;
 public interface AlarmSettingRepository extends JpaRepository<AlarmSetting, Long> {
     Optional<AlarmSetting> findByUserAndAlarmType(User user, AlarmSetting.AlarmType alarmType);
     List<AlarmSetting> findAlarmSettingByUser(User user);
+
+    // 회원 탈퇴 시 유저의 알람 세팅을 limit 개씩 일괄 INACTIVE
+    @Modifying
+    @Query(value = "UPDATE AlarmSetting SET status = 'INACTIVE', updatedAt = NOW() " +
+            "WHERE userId = :userId AND status = 'ACTIVE' LIMIT :limit", nativeQuery = true)
+    int deactivateAlarmSettingsByUserId(@Param("userId") Long userId, @Param("limit") int limit);
 }
@@ -41,15 +41,16 @@ public class CommentController {
 
     /**
      * 특정 게시물의 댓글 목록 조회 API
-     * [POST] /comments?postId={게시글인덱스}
+     * [GET] /comments?postId={게시글인덱스}&commentId={이전 페이지의 마지막 댓글인덱스}
      *
      * @return BaseResponse<GetCommentsRes>
      */
     @GetMapping("")
-    @Operation(summary = "특정 게시물의 댓글 목록 조회", description = "특정 게시물의 댓글 목록을 조회합니다.")
+    @Operation(summary = "특정 게시물의 댓글 목록 조회", description = "특정 게시물의 댓글 목록을 조회합니다. 다음 페이지는 마지막 commentId를 전달합니다.")
     public BaseResponse<List<GetCommentsRes>> getCommentsByPostId(@AuthenticationPrincipal @Parameter(hidden = true) User user,
-                                                                  @RequestParam("postId") Long postId) {
-        List<GetCommentsRes> getCommentsRes = commentService.getCommentsByPostId(user, postId);
+                                                                  @RequestParam("postId") Long postId,
+                                                                  @RequestParam(value = "commentId", required = false) Long commentId) {
+        List<GetCommentsRes> getCommentsRes = commentService.getCommentsByPostId(user, postId, commentId);
         return new BaseResponse<>(getCommentsRes);
     }
 
@@ -8,16 +8,23 @@ import com.spring.familymoments.domain.comment.model.PatchCommentReq;
 import com.spring.familymoments.domain.comment.model.PostCommentReq;
 import com.spring.familymoments.domain.commentLove.CommentLoveRepository;
 import com.spring.familymoments.domain.common.BaseEntity;
+import com.spring.familymoments.domain.fcm.model.NotificationEvent;
 import com.spring.familymoments.domain.post.PostWithUserRepository;
 import com.spring.familymoments.domain.post.entity.Post;
 import com.spring.familymoments.domain.post.entity.ReportReason;
 import com.spring.familymoments.domain.post.model.ContentReportReq;
 import com.spring.familymoments.domain.user.entity.User;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static com.spring.familymoments.config.BaseResponseStatus.*;
@@ -30,6 +37,9 @@ public class CommentService {
     private final PostWithUserRepository postWithUserRepository;
     private final CommentReportRepository commentReportRepository;
     private final CommentLoveRepository commentLoveRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final int COMMENT_PAGE_SIZE = 20;
 
     // 댓글 생성하기
     @Transactional
@@ -55,35 +65,51 @@ public class CommentService {
 
             // 댓글 저장
             commentWithUserRepository.save(comment);
+
+            // 게시글 작성자에게 댓글 알림 (커밋 후 비동기 전송)
+            eventPublisher.publishEvent(NotificationEvent.ofComment(
+                    post.getFamilyId().getFamilyId(), user.getUserId(), user.getNickname(), post.getWriter().getUserId()));
         } else {
             // 게시글이 INACTIVE일 경우
             throw new BaseException(FIND_FAIL_POST);
         }
     }
 
-    // 특정 게시물의 댓글 목록 조회
+    // 특정 게시물의 댓글 목록 조회 (commentId 이후 COMMENT_PAGE_SIZE 개)
     @Transactional(readOnly = true)
-    public List<GetCommentsRes> getCommentsByPostId(User user, Long postId) throws BaseException{
-
-        // 게시글 존재 확인
-        postWithUserRepository.findById(postId)
-                .orElseThrow(() -> new BaseException(FIND_FAIL_POST));
-
-        List<Comment> activeComments = commentWithUserRepository.findActiveCommentsByPostId(postId);
-
-        if(activeComments.isEmpty() || activeComments == null) {
+    public List<GetCommentsRes> getCommentsByPostId(User user, Long postId, Long commentId) throws BaseException{
+
+        // 작성자 닉네임/프로필 이미지는 같은 쿼리에서 조회
+        List<Object[]> activeComments = commentWithUserRepository.findActiveCommentPageByPostId(
+                postId, commentId == null ? 0L : commentId, PageRequest.of(0, COMMENT_PAGE_SIZE));
+
+        if(activeComments.isEmpty()) {
+            // 다음 페이지 조회 시에는 빈 목록
+            if(commentId != null) {
+                return new ArrayList<>();
+            }
+            // 게시글 존재 확인 (댓글이 없을 때만)
+            if(!postWithUserRepository.existsById(postId)) {
+                throw new BaseException(FIND_FAIL_POST);
+            }
             throw new BaseException(NO_ACTIVE_COMMENTS);
         }
 
+        // 페이지 내 좋아요 여부는 IN 쿼리 한 번으로 확인
+        List<Long> commentIds = activeComments.stream()
+                .map(row -> (Long) row[0])
+                .collect(Collectors.toList());
+        Set<Long> lovedCommentIds = new HashSet<>(commentLoveRepository.findLovedCommentIds(user.getUserId(), commentIds));
+
         List<GetCommentsRes> getCommentsResList = activeComments.stream()
-                .map(comment -> new GetCommentsRes(
-                        comment.getPostId().getPostId(),
-                        comment.getCommentId(),
-                        comment.getWriter().getNickname(),
-                        comment.getWriter().getProfileImg(),
-                        comment.getContent(),
-                        commentLoveRepository.existsByCommentIdAndUserId(comment, user),
-                        comment.getCreatedAt()
+                .map(row -> new GetCommentsRes(
+                        postId,
+                        (Long) row[0],
+                        (String) row[1],
+                        (String) row[2],
+                        (String) row[3],
+                        lovedCommentIds.contains((Long) row[0]),
+                        (LocalDateTime) row[4]
                 ))
                 .collect(Collectors.toList());
 
@@ -2,10 +2,13 @@ package com.spring.familymoments.domain.comment;
 
 import com.spring.familymoments.domain.comment.entity.Comment;
 import com.spring.familymoments.domain.post.entity.Post;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,10 +22,35 @@ public interface CommentWithUserRepository extends JpaRepository<Comment, Long>
     @Query("SELECT c FROM Comment c WHERE c.postId IN (SELECT p FROM Post p WHERE p.writer.userId = :userId)")
     List<Comment> findByPostUserID(Long userId);
 
-    // 게시글의 ACTIVE 댓글 목록 조회
-    @Query("SELECT c FROM Comment c WHERE c.postId.postId = :postId AND c.status = 'ACTIVE'")
-    List<Comment> findActiveCommentsByPostId(Long postId);
+    // 게시글의 ACTIVE 댓글 페이지 조회 (commentId, 작성자 닉네임, 프로필 이미지, 내용, 생성 시각 / commentId 기준 커서 페이징)
+    // 탈퇴한 작성자(null)도 포함하도록 LEFT JOIN
+    @Query("SELECT c.commentId, w.nickname, w.profileImg, c.content, c.createdAt FROM Comment c LEFT JOIN c.writer w " +
+            "WHERE c.postId.postId = :postId AND c.status = 'ACTIVE' AND c.commentId > :commentId " +
+            "ORDER BY c.commentId ASC")
+    List<Object[]> findActiveCommentPageByPostId(@Param("postId") Long postId, @Param("commentId") long commentId,
+                                                 Pageable pageable);
 
     // 게시글 내의 모든 댓글 조회
     List<Comment> findByPostId(Post post);
-}
\ No newline at end of file
+
+    // 가족 삭제 시 가족 게시글의 ACTIVE 댓글을 limit 개씩 일괄 삭제 (처리한 행 수 반환)
+    @Modifying
+    @Query(value = "UPDATE Comment SET status = 'INACTIVE', updatedAt = NOW() " +
+            "WHERE status = 'ACTIVE' " +
+            "AND postId IN (SELECT p.postId FROM Post p WHERE p.familyId = :familyId) " +
+            "LIMIT :limit", nativeQuery = true)
+    int deactivateCommentsByFamilyId(@Param("familyId") Long familyId, @Param("limit") int limit);
+
+    // 회원 탈퇴 시 유저의 댓글 작성자를 limit 개씩 일괄 '알수없음'(null) 처리
+    @Modifying
+    @Query(value = "UPDATE Comment SET writer = NULL, updatedAt = NOW() " +
+            "WHERE writer = :userId LIMIT :limit", nativeQuery = true)
+    int clearWriterByUserId(@Param("userId") Long userId, @Param("limit") int limit);
+
+    // 가족 탈퇴 시 해당 가족 게시글에 탈퇴 유저들이 작성한 ACTIVE 댓글 일괄 INACTIVE
+    @Modifying
+    @Query(value = "UPDATE Comment SET status = 'INACTIVE', updatedAt = NOW() " +
+            "WHERE writer IN (:userIds) AND status = 'ACTIVE' " +
+            "AND postId IN (SELECT p.postId FROM Post p WHERE p.familyId = :familyId)", nativeQuery = true)
+    int deactivateCommentsByFamilyIdAndUserIds(@Param("familyId") Long familyId, @Param("userIds") Collection<Long> userIds);
+}
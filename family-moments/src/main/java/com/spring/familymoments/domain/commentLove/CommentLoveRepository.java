@@ -4,11 +4,20 @@ import com.spring.familymoments.domain.comment.entity.Comment;
 import com.spring.familymoments.domain.commentLove.entity.CommentLove;
 import com.spring.familymoments.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CommentLoveRepository extends JpaRepository<CommentLove, Long> {
     Optional<CommentLove> findByCommentIdAndUserId(Comment comment, User user);
 
     boolean existsByCommentIdAndUserId(Comment comment, User user);
+
+    // 댓글 목록 중 유저가 좋아요한 commentId
+    @Query("SELECT cl.commentId.commentId FROM CommentLove cl " +
+            "WHERE cl.userId.userId = :userId AND cl.commentId.commentId IN :commentIds")
+    List<Long> findLovedCommentIds(@Param("userId") Long userId, @Param("commentIds") Collection<Long> commentIds);
 }
@@ -5,8 +5,10 @@ import com.spring.familymoments.domain.comment.CommentWithUserRepository;
 import com.spring.familymoments.domain.comment.entity.Comment;
 import com.spring.familymoments.domain.commentLove.entity.CommentLove;
 import com.spring.familymoments.domain.commentLove.model.CommentLoveReq;
+import com.spring.familymoments.domain.fcm.model.NotificationEvent;
 import com.spring.familymoments.domain.user.entity.User;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +20,7 @@ public class CommentLoveService {
 
     private final CommentLoveRepository commentLoveRepository;
     private final CommentWithUserRepository commentWithUserRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void createLove(User user, CommentLoveReq commentLoveReq) {
@@ -36,6 +39,12 @@ public class CommentLoveService {
 
         comment.increaseCountLove();
         commentLoveRepository.save(commentLove);
+
+        // 댓글 작성자에게 좋아요 알림 (탈퇴한 작성자의 댓글은 제외)
+        if (comment.getWriter() != null) {
+            eventPublisher.publishEvent(NotificationEvent.ofCommentLove(
+                    comment.getPostId().getFamilyId().getFamilyId(), user.getUserId(), user.getNickname(), comment.getWriter().getUserId()));
+        }
     }
 
     @Transactional
@@ -2,6 +2,7 @@ package com.spring.familymoments.domain.commentLove;
 
 import com.spring.familymoments.domain.commentLove.entity.CommentLove;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -12,4 +13,10 @@ import java.util.List;
 public interface CommentLoveWithUserRepository extends JpaRepository<CommentLove, Long> {
     @Query("SELECT cl FROM CommentLove cl WHERE cl.userId.userId = :userId")
     List<CommentLove> findCommentLovesByUserId(@Param("userId") Long userId);
+
+    // 회원 탈퇴 시 유저의 댓글 좋아요를 limit 개씩 일괄 INACTIVE
+    @Modifying
+    @Query(value = "UPDATE CommentLove SET status = 'INACTIVE', updatedAt = NOW() " +
+            "WHERE userId = :userId AND status = 'ACTIVE' LIMIT :limit", nativeQuery = true)
+    int deactivateCommentLovesByUserId(@Param("userId") Long userId, @Param("limit") int limit);
 }
@@ -23,5 +23,10 @@ public class BaseTime{
     @UpdateTimestamp
     @Column(name = "updatedAt", nullable = false)
     private LocalDateTime updatedAt;
-}
 
+    // 캐시 스냅샷으로 엔티티를 다시 만들 때 생성/수정 시각 복원 (PrincipalCache)
+    protected void restoreTimestamps(LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,35 @@
+package com.spring.familymoments.domain.common;
+
+import com.spring.familymoments.domain.common.entity.UserFamily;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 가족-유저 매핑 일괄 저장
+ * UserFamily 는 IDENTITY 전략이라 JPA 로는 INSERT 가 한 건씩 실행되므로
+ * JdbcTemplate batchUpdate 로 묶어서 전송 (키는 DB AUTO_INCREMENT 가 그대로 생성)
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserFamilyDao {
+    private static final String INSERT_SQL = "INSERT INTO UserFamilyMapping " +
+            "(familyId, userId, inviteUserId, status, createdAt, updatedAt) " +
+            "VALUES (?, ?, ?, ?, NOW(), NOW())";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void batchInsert(Long familyId, Long inviteUserId, List<Long> userIds, UserFamily.Status status) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, userIds, userIds.size(), (ps, userId) -> {
+            ps.setLong(1, familyId);
+            ps.setLong(2, userId);
+            ps.setLong(3, inviteUserId);
+            ps.setString(4, status.name());
+        });
+    }
+}
@@ -4,11 +4,15 @@ import com.spring.familymoments.domain.common.entity.UserFamily;
 import com.spring.familymoments.domain.family.entity.Family;
 import com.spring.familymoments.domain.family.model.GetFamilyAllResInterface;
 import com.spring.familymoments.domain.user.entity.User;
+import com.spring.familymoments.domain.user.model.GetInvitationRes;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,9 +26,17 @@ public interface UserFamilyRepository extends JpaRepository<UserFamily, Long> {
     @Query("SELECT uf FROM UserFamily uf WHERE uf.userId = :userId AND uf.familyId = :familyId AND uf.status = 'ACTIVE'")
     Optional<UserFamily> findActiveUserFamilyByUserIdAndFamilyId(@Param("userId") User user, @Param("familyId") Family family);
 
-    @Query(value = "SELECT uf FROM UserFamily uf WHERE uf.userId = ?1 AND uf.status = 'DEACCEPT'"
-            + "ORDER BY uf.createdAt DESC")
-    List<UserFamily> findAllByUserIdOrderByCreatedAtDesc(User userId);
+    // 받은 초대 리스트 (가족 이름, 초대한 회원 정보를 한 번에 조회)
+    // 다시 초대하면 기존 매핑을 DEACCEPT 로 되돌리므로 (updatedAt, mappingId) 기준 최신순 커서 페이징, 첫 페이지는 invitedAt = null
+    @Query("SELECT new com.spring.familymoments.domain.user.model.GetInvitationRes(" +
+            "f.familyName, i.nickname, i.profileImg, uf.mappingId, uf.updatedAt) " +
+            "FROM UserFamily uf JOIN uf.familyId f JOIN uf.inviteUserId i " +
+            "WHERE uf.userId.userId = :userId AND uf.status = 'DEACCEPT' " +
+            "AND (:invitedAt IS NULL OR uf.updatedAt < :invitedAt " +
+            "OR (uf.updatedAt = :invitedAt AND uf.mappingId < :invitationId)) " +
+            "ORDER BY uf.updatedAt DESC, uf.mappingId DESC")
+    List<GetInvitationRes> findInvitationsByUserId(@Param("userId") Long userId, @Param("invitedAt") LocalDateTime invitedAt,
+                                                   @Param("invitationId") Long invitationId, Pageable pageable);
 
     //회원 탈퇴 시, UserFamily 매핑 테이블 해제를 위한 조회
     @Query("SELECT uf FROM UserFamily uf WHERE uf.userId.userId = :userId")
@@ -47,4 +59,67 @@ public interface UserFamilyRepository extends JpaRepository<UserFamily, Long> {
 
     @Query("SELECT f.familyName FROM UserFamily uf JOIN Family f ON uf.familyId.familyId = f.familyId WHERE uf.userId.userId = :userId")
     String findFamilyNameByUserId(@Param("userId") Long userId);
+
+    // 가족 삭제 시 남은 가족-유저 매핑(가입/초대 대기)을 limit 개씩 일괄 해제 (처리한 행 수 반환)
+    @Modifying
+    @Query(value = "UPDATE UserFamilyMapping SET status = 'INACTIVE', updatedAt = NOW() " +
+            "WHERE familyId = :familyId AND status IN ('ACTIVE', 'DEACCEPT') " +
+            "LIMIT :limit", nativeQuery = true)
+    int deactivateUserFamiliesByFamilyId(@Param("familyId") Long familyId, @Param("limit") int limit);
+
+    // 회원 탈퇴 시 유저의 가족-유저 매핑을 limit 개씩 일괄 INACTIVE
+    @Modifying
+    @Query(value = "UPDATE UserFamilyMapping SET status = 'INACTIVE', updatedAt = NOW() " +
+            "WHERE userId = :userId AND status <> 'INACTIVE' LIMIT :limit", nativeQuery = true)
+    int deactivateUserFamiliesByUserId(@Param("userId") Long userId, @Param("limit") int limit);
+
+    // 가족 탈퇴 시 탈퇴 유저들의 가족-유저 매핑 일괄 삭제 (삭제한 행 수 반환)
+    @Modifying
+    @Query("DELETE FROM UserFamily uf WHERE uf.familyId.familyId = :familyId AND uf.userId.userId IN :userIds")
+    int deleteByFamilyIdAndUserIds(@Param("familyId") Long familyId, @Param("userIds") Collection<Long> userIds);
+
+    // 유저의 가족 소속 목록 (familyId, 매핑 상태, 가족 생성자 userId, 가족 상태) - FamilyMembershipCache
+    @Query("SELECT f.familyId, uf.status, f.owner.userId, f.status FROM UserFamily uf JOIN uf.familyId f WHERE uf.userId.userId = :userId")
+    List<Object[]> findMembershipsByUserId(@Param("userId") Long userId);
+
+    // 가족 초대 시 대상 유저들의 기존 매핑 한 번에 조회
+    @Query("SELECT uf FROM UserFamily uf WHERE uf.familyId = :family AND uf.userId.userId IN :userIds")
+    List<UserFamily> findByFamilyIdAndUserIds(@Param("family") Family family, @Param("userIds") Collection<Long> userIds);
+
+    // 가족 홈 스냅샷용 ACTIVE 구성원 전체 조회 (본인 포함)
+    @Query(value = "SELECT u.userId AS userId, u.id AS id, u.nickname AS nickname, u.profileImg AS profileImg " +
+            "FROM UserFamilyMapping m " +
+            "INNER JOIN User u ON u.userId = m.userId " +
+            "WHERE m.familyId = :familyId " +
+            "AND m.status = 'ACTIVE' " +
+            "AND u.status = 'ACTIVE' " +
+            "ORDER BY m.createdAt ASC",
+            nativeQuery = true)
+    List<GetFamilyAllResInterface> findAllActiveMembersByFamilyId(@Param("familyId") Long familyId);
+
+    // 프로필 업로드 수 (가족-유저 매핑의 postCount)
+    @Query("SELECT uf.postCount FROM UserFamily uf WHERE uf.userId.userId = :userId AND uf.familyId.familyId = :familyId")
+    List<Integer> findPostCountByUserIdAndFamilyId(@Param("userId") Long userId, @Param("familyId") Long familyId);
+
+    // 게시글 작성 시 업로드 수 + 1
+    @Modifying
+    @Query(value = "UPDATE UserFamilyMapping SET postCount = postCount + 1 " +
+            "WHERE userId = :userId AND familyId = :familyId", nativeQuery = true)
+    int increasePostCount(@Param("userId") Long userId, @Param("familyId") Long familyId);
+
+    // 게시글 삭제/신고 누적으로 INACTIVE 시 업로드 수 - 1
+    @Modifying
+    @Query(value = "UPDATE UserFamilyMapping SET postCount = postCount - 1 " +
+            "WHERE userId = :userId AND familyId = :familyId AND postCount > 0", nativeQuery = true)
+    int decreasePostCount(@Param("userId") Long userId, @Param("familyId") Long familyId);
+
+    // 업로드 수 보정 - mappingId 구간의 ACTIVE 매핑을 실제 ACTIVE 게시글 수로 일괄 UPDATE (처리한 행 수 반환)
+    @Modifying
+    @Query(value = "UPDATE UserFamilyMapping m SET m.postCount = (" +
+            "SELECT COUNT(*) FROM Post p WHERE p.`user` = m.userId AND p.familyId = m.familyId AND p.status = 'ACTIVE') " +
+            "WHERE m.mappingId > :fromId AND m.mappingId <= :toId AND m.status = 'ACTIVE'", nativeQuery = true)
+    int reconcilePostCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Query("SELECT COALESCE(MAX(uf.mappingId), 0) FROM UserFamily uf")
+    Long findMaxMappingId();
 }
@@ -4,6 +4,7 @@ import com.spring.familymoments.domain.common.BaseTime;
 import com.spring.familymoments.domain.family.entity.Family;
 import com.spring.familymoments.domain.user.entity.User;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.DynamicInsert;
 import org.hibernate.annotations.DynamicUpdate;
 
@@ -11,7 +12,8 @@ import javax.persistence.*;
 
 @EqualsAndHashCode(callSuper = false)
 @Entity
-@Table(name = "UserFamilyMapping")
+@Table(name = "UserFamilyMapping",
+        indexes = @Index(name = "idx_user_family_user_status", columnList = "userId, status"))
 @Getter
 @NoArgsConstructor(force = true)
 @AllArgsConstructor
@@ -41,6 +43,11 @@ public class UserFamily extends BaseTime {
     @JoinColumn(name = "inviteUserId", nullable = false)
     private User inviteUserId;
 
+    // 이 가족에서 작성한 ACTIVE 게시글 수 (프로필 업로드 수, PostCountReconciliationJob 이 보정)
+    @Column(name = "postCount", nullable = false)
+    @ColumnDefault("0")
+    private int postCount;
+
     public enum Status {
         ACTIVE, INACTIVE, DEACCEPT, REJECT
     }
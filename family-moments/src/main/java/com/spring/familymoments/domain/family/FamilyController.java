@@ -29,6 +29,7 @@ import java.util.Map;
 public class FamilyController {
 
     private final FamilyService familyService;
+    private final FamilyHomeSnapshotService familyHomeSnapshotService;
     private final AwsS3Service awsS3Service;
 
 
@@ -67,6 +68,21 @@ public class FamilyController {
         return new BaseResponse<>(familyRes);
     }
 
+    /**
+     * 가족 홈 화면 조회 API
+     * [GET] /:familyId/home
+     *
+     * @return BaseResponse<FamilyHomeRes>
+     */
+    @GetMapping(value = "/{familyId}/home", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "가족 홈 화면 조회", description = "가족 정보, 구성원, 게시글 수, 최근 업로드, 대표 썸네일을 한 번에 조회합니다.")
+    public BaseResponse<FamilyHomeRes> getFamilyHome(
+            @AuthenticationPrincipal @Parameter(hidden = true) User user,
+            @PathVariable Long familyId) {
+        FamilyHomeRes familyHomeRes = familyHomeSnapshotService.getFamilyHome(user, familyId);
+        return new BaseResponse<>(familyHomeRes);
+    }
+
     /**
      * 닉네임 및 가족 생성일 조회 API
      * [GET] /:familyId/created
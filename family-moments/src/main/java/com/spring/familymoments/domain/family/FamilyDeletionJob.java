@@ -0,0 +1,93 @@
+package com.spring.familymoments.domain.family;
+
+import com.spring.familymoments.domain.comment.CommentWithUserRepository;
+import com.spring.familymoments.domain.common.UserFamilyRepository;
+import com.spring.familymoments.domain.family.model.FamilyDeletedEvent;
+import com.spring.familymoments.domain.post.PostWithUserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntSupplier;
+
+/**
+ * 가족 삭제 후속 정리 작업
+ * 댓글 -> 게시글 -> 가족-유저 매핑 순서로 chunk-size 개씩 일괄 UPDATE (chunk 마다 별도 트랜잭션)
+ * 진행 상태는 DB 자체(남아있는 ACTIVE 행)라서 중간에 멈춰도 다음 주기에 이어서 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FamilyDeletionJob {
+    private final FamilyRepository familyRepository;
+    private final PostWithUserRepository postWithUserRepository;
+    private final CommentWithUserRepository commentWithUserRepository;
+    private final UserFamilyRepository userFamilyRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Set<Long> runningFamilyIds = ConcurrentHashMap.newKeySet();
+
+    @Value("${family.deletion.chunk-size:500}")
+    private int chunkSize;
+    @Value("${family.deletion.resume-batch-size:20}")
+    private int resumeBatchSize;
+
+    /**
+     * 가족 삭제가 커밋된 뒤 cleanupExecutor 에서 정리 시작
+     */
+    @Async("cleanupExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleFamilyDeleted(FamilyDeletedEvent event) {
+        cascade(event.getFamilyId());
+    }
+
+    /**
+     * 서버 재시작/실패 등으로 정리가 끝나지 않은 가족 이어서 처리 (10분마다)
+     */
+    @Scheduled(initialDelay = 60000, fixedDelayString = "${family.deletion.resume-interval:600000}")
+    public void resume() {
+        List<Number> pendingFamilyIds = familyRepository.findFamilyIdsPendingDeletion(resumeBatchSize);
+        for (Number familyId : pendingFamilyIds) {
+            cascade(familyId.longValue());
+        }
+    }
+
+    public void cascade(Long familyId) {
+        // 이벤트와 주기 작업이 같은 가족을 동시에 처리하지 않도록
+        if (!runningFamilyIds.add(familyId)) {
+            return;
+        }
+        try {
+            int comments = deactivateInChunks(() -> commentWithUserRepository.deactivateCommentsByFamilyId(familyId, chunkSize));
+            int posts = deactivateInChunks(() -> postWithUserRepository.deactivatePostsByFamilyId(familyId, chunkSize));
+            int mappings = deactivateInChunks(() -> userFamilyRepository.deactivateUserFamiliesByFamilyId(familyId, chunkSize));
+            log.info("Family {} deletion cascade finished - comments: {}, posts: {}, mappings: {}",
+                    familyId, comments, posts, mappings);
+        } catch (Exception e) {
+            log.error("Family {} deletion cascade stopped, will resume later", familyId, e);
+        } finally {
+            runningFamilyIds.remove(familyId);
+        }
+    }
+
+    // 처리한 행이 chunk 보다 적을 때까지 반복
+    private int deactivateInChunks(IntSupplier chunk) {
+        int total = 0;
+        int updated;
+        do {
+            Integer result = transactionTemplate.execute(status -> chunk.getAsInt());
+            updated = result == null ? 0 : result;
+            total += updated;
+        } while (updated >= chunkSize);
+        return total;
+    }
+}
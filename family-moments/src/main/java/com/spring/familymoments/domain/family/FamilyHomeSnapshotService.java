@@ -0,0 +1,289 @@
+package com.spring.familymoments.domain.family;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.familymoments.config.BaseException;
+import com.spring.familymoments.domain.common.BaseEntity;
+import com.spring.familymoments.domain.common.UserFamilyRepository;
+import com.spring.familymoments.domain.family.entity.Family;
+import com.spring.familymoments.domain.family.model.FamilyHomeEvent;
+import com.spring.familymoments.domain.family.model.FamilyHomeRes;
+import com.spring.familymoments.domain.family.model.FamilyHomeSnapshot.FamilyInfo;
+import com.spring.familymoments.domain.family.model.FamilyHomeSnapshot.Members;
+import com.spring.familymoments.domain.family.model.FamilyHomeSnapshot.PostSummary;
+import com.spring.familymoments.domain.family.model.FamilyHomeSnapshot.Section;
+import com.spring.familymoments.domain.family.model.FamilyMemberRes;
+import com.spring.familymoments.domain.post.PostDocumentRepository;
+import com.spring.familymoments.domain.post.PostRepository;
+import com.spring.familymoments.domain.post.PostWithUserRepository;
+import com.spring.familymoments.domain.post.document.PostDocument;
+import com.spring.familymoments.domain.post.entity.Post;
+import com.spring.familymoments.domain.post.model.AlbumRes;
+import com.spring.familymoments.domain.user.entity.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.spring.familymoments.config.BaseResponseStatus.*;
+
+/**
+ * 가족 홈 화면 스냅샷
+ *
+ * FAMILY_HOME(familyId): Hash { FAMILY : 가족 정보, MEMBERS : 구성원 목록, POSTS : 게시글 요약 } (JSON)
+ * FAMILY_HOME_VERSION(familyId): 변경 이벤트마다 INCR 하는 버전
+ *
+ * 홈 화면은 HGETALL 한 번으로 응답, 없는 부분만 DB 에서 계산해서 채움
+ * 가족/구성원/게시글이 바뀌면 FamilyHomeEvent 로 버전을 올리고 해당 부분만 다시 계산 (스냅샷이 있는 경우만)
+ * 저장은 계산 전에 읽은 버전이 그대로일 때만 -> 커밋 전 데이터로 계산한 조회/이벤트 결과가 나중에 덮어쓰지 않음
+ * 프로필 변경 등 이벤트가 없는 변경은 TTL 이 지나면 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FamilyHomeSnapshotService {
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    /**
+     * 읽기 시 없는 부분 저장 - 버전이 그대로일 때만, 새로 만든 키에만 TTL 설정
+     * KEYS[1] 스냅샷, KEYS[2] 버전 / ARGV[1] 읽은 버전, ARGV[2] TTL(ms), ARGV[3..] field, value 반복
+     */
+    private static final RedisScript<Long> STORE_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then return 0 end " +
+            "local created = redis.call('EXISTS', KEYS[1]) == 0 " +
+            "for i = 3, #ARGV, 2 do redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+            "if created then redis.call('PEXPIRE', KEYS[1], ARGV[2]) end " +
+            "return 1",
+            Long.class);
+
+    /**
+     * 이벤트로 갱신 - 스냅샷이 있고 버전이 그대로일 때만 (TTL 유지)
+     * KEYS[1] 스냅샷, KEYS[2] 버전 / ARGV[1] 이벤트에서 올린 버전, ARGV[2] field, ARGV[3] value
+     */
+    private static final RedisScript<Long> UPDATE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end " +
+            "if redis.call('GET', KEYS[2]) ~= ARGV[1] then return 0 end " +
+            "redis.call('HSET', KEYS[1], ARGV[2], ARGV[3]) " +
+            "return 1",
+            Long.class);
+
+    private static final long VERSION_TTL_HOURS = 24;
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final FamilyRepository familyRepository;
+    private final UserFamilyRepository userFamilyRepository;
+    private final PostRepository postRepository;
+    private final PostWithUserRepository postWithUserRepository;
+    private final PostDocumentRepository postDocumentRepository;
+    private final FamilyMembershipCache familyMembershipCache;
+
+    @Value("${family.home.ttl-minutes:10}")
+    private long ttlMinutes;
+    @Value("${family.home.thumbnail-count:6}")
+    private int thumbnailCount;
+
+    // 가족 홈 화면 조회
+    @Transactional(readOnly = true)
+    public FamilyHomeRes getFamilyHome(User user, Long familyId) {
+        // DB 를 읽기 전에 버전부터 읽고 스냅샷 조회 (그 사이 이벤트가 오면 저장하지 않음)
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.get(versionKey(familyId));
+            stringConnection.hGetAll(key(familyId));
+            return null;
+        });
+        String version = results.get(0) == null ? "0" : (String) results.get(0);
+        @SuppressWarnings("unchecked")
+        Map<Object, Object> cached = results.get(1) == null ? Collections.emptyMap() : (Map<Object, Object>) results.get(1);
+        if (!familyMembershipCache.get(user.getUserId()).isMember(familyId)) {
+            throw new BaseException(FIND_FAIL_USER_IN_FAMILY);
+        }
+
+        List<String> missing = new ArrayList<>();
+        FamilyInfo familyInfo = read(cached, Section.FAMILY, FamilyInfo.class);
+        if (familyInfo == null) {
+            familyInfo = buildFamilyInfo(familyId);
+            addMissing(missing, Section.FAMILY, familyInfo);
+        }
+        Members members = read(cached, Section.MEMBERS, Members.class);
+        if (members == null) {
+            members = buildMembers(familyId);
+            addMissing(missing, Section.MEMBERS, members);
+        }
+        PostSummary postSummary = read(cached, Section.POSTS, PostSummary.class);
+        if (postSummary == null) {
+            postSummary = buildPostSummary(familyId);
+            addMissing(missing, Section.POSTS, postSummary);
+        }
+
+        if (!missing.isEmpty()) {
+            missing.add(0, String.valueOf(TimeUnit.MINUTES.toMillis(ttlMinutes)));
+            missing.add(0, version);
+            redisTemplate.execute(STORE_SCRIPT, List.of(key(familyId), versionKey(familyId)), missing.toArray());
+        }
+
+        if (!familyInfo.isActive()) {
+            throw new BaseException(FIND_FAIL_FAMILY);
+        }
+
+        return FamilyHomeRes.builder()
+                .familyId(familyInfo.getFamilyId())
+                .familyName(familyInfo.getFamilyName())
+                .representImg(familyInfo.getRepresentImg())
+                .ownerId(familyInfo.getOwnerId())
+                .uploadCycle(familyInfo.getUploadCycle())
+                .createdAt(familyInfo.getCreatedAt())
+                .nickname(user.getNickname())
+                .owner(user.getUserId().equals(familyInfo.getOwnerId()))
+                .members(members.getMembers())
+                .postCount(postSummary.getPostCount())
+                .latestUploadAt(postSummary.getLatestUploadAt())
+                .thumbnails(postSummary.getThumbnails())
+                .build();
+    }
+
+    /**
+     * 커밋이 끝난 변경만 반영, snapshotExecutor 에서 해당 부분만 다시 계산
+     * 스냅샷이 없어도 버전은 올림 -> 커밋 전에 시작한 조회가 이전 데이터를 저장하지 못함
+     */
+    @Async("snapshotExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleFamilyHomeEvent(FamilyHomeEvent event) {
+        Long familyId = event.getFamilyId();
+        Long version = redisTemplate.opsForValue().increment(versionKey(familyId));
+        redisTemplate.expire(versionKey(familyId), VERSION_TTL_HOURS, TimeUnit.HOURS);
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(key(familyId)))) {
+            return;     // 스냅샷이 없으면 다음 조회 때 계산
+        }
+        try {
+            Object section;
+            switch (event.getSection()) {
+                case FAMILY:
+                    section = buildFamilyInfo(familyId);
+                    break;
+                case MEMBERS:
+                    section = buildMembers(familyId);
+                    break;
+                default:
+                    section = buildPostSummary(familyId);
+            }
+            // 그 사이 다른 이벤트가 버전을 올렸으면 그 이벤트가 저장
+            redisTemplate.execute(UPDATE_SCRIPT, List.of(key(familyId), versionKey(familyId)),
+                    String.valueOf(version), event.getSection().name(), write(section));
+        } catch (Exception e) {
+            // 갱신에 실패하면 스냅샷을 지워서 다음 조회 때 다시 계산
+            log.error("Failed to refresh family home snapshot - family: {}, section: {}", familyId, event.getSection(), e);
+            redisTemplate.delete(key(familyId));
+        }
+    }
+
+    private FamilyInfo buildFamilyInfo(Long familyId) {
+        Family family = familyRepository.findById(familyId)
+                .orElseThrow(() -> new BaseException(FIND_FAIL_FAMILY));
+
+        return FamilyInfo.builder()
+                .familyId(family.getFamilyId())
+                .familyName(family.getFamilyName())
+                .representImg(family.getRepresentImg())
+                .ownerId(family.getOwner().getUserId())
+                .uploadCycle(family.getUploadCycle())
+                .createdAt(format(family.getCreatedAt()))
+                .active(family.getStatus() == BaseEntity.Status.ACTIVE)
+                .build();
+    }
+
+    private Members buildMembers(Long familyId) {
+        List<FamilyMemberRes> members = userFamilyRepository.findAllActiveMembersByFamilyId(familyId).stream()
+                .map(member -> FamilyMemberRes.builder()
+                        .userId(member.getUserId())
+                        .id(member.getId())
+                        .nickname(member.getNickname())
+                        .profileImg(member.getProfileImg())
+                        .build())
+                .collect(Collectors.toList());
+        return new Members(members);
+    }
+
+    private PostSummary buildPostSummary(Long familyId) {
+        List<Post> latestPosts = postRepository.findByFamilyIdOrderByCreatedAtDesc(familyId, PageRequest.of(0, thumbnailCount));
+
+        // 최근 게시글 document 를 한 번에 조회해서 첫 번째 이미지를 썸네일로 사용
+        List<Long> postIds = latestPosts.stream().map(Post::getPostId).collect(Collectors.toList());
+        Map<Long, PostDocument> documents = postIds.isEmpty() ? Collections.emptyMap()
+                : postDocumentRepository.findByEntityIdIn(postIds).stream()
+                        .collect(Collectors.toMap(PostDocument::getEntityId, Function.identity(), (first, second) -> first));
+
+        List<AlbumRes> thumbnails = new ArrayList<>();
+        for (Post post : latestPosts) {
+            PostDocument document = documents.get(post.getPostId());
+            if (document != null && document.getUrls() != null && !document.getUrls().isEmpty()) {
+                thumbnails.add(new AlbumRes(post.getPostId(), document.getUrls().get(0)));
+            }
+        }
+
+        return PostSummary.builder()
+                .postCount(postWithUserRepository.countActivePostsByFamilyId(familyId))
+                .latestUploadAt(latestPosts.isEmpty() ? null : format(latestPosts.get(0).getCreatedAt()))
+                .thumbnails(thumbnails)
+                .build();
+    }
+
+    private <T> T read(Map<Object, Object> cached, Section section, Class<T> type) {
+        Object json = cached.get(section.name());
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue((String) json, type);
+        } catch (JsonProcessingException e) {
+            log.warn("Broken family home snapshot section: {}", section, e);
+            return null;
+        }
+    }
+
+    private void addMissing(List<String> missing, Section section, Object value) {
+        missing.add(section.name());
+        missing.add(write(value));
+    }
+
+    private String write(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new BaseException(SERVER_ERROR);
+        }
+    }
+
+    private static String format(LocalDateTime dateTime) {
+        return dateTime == null ? null : dateTime.format(FORMATTER);
+    }
+
+    private static String key(Long familyId) {
+        return "FAMILY_HOME(" + familyId + ")";
+    }
+
+    private static String versionKey(Long familyId) {
+        return "FAMILY_HOME_VERSION(" + familyId + ")";
+    }
+}
@@ -0,0 +1,227 @@
+package com.spring.familymoments.domain.family;
+
+import com.spring.familymoments.domain.common.BaseEntity;
+import com.spring.familymoments.domain.common.UserFamilyRepository;
+import com.spring.familymoments.domain.common.entity.UserFamily;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 유저별 가족 소속 캐시
+ * userId -> (familyId, 매핑 상태, 생성자 여부, 가족 ACTIVE 여부)
+ * 가족 관련 권한 확인 시 UserFamily 를 매번 조회하지 않도록 TTL 동안 재사용
+ * FamilyService 에서 소속이 바뀌는 경우 evict / evictFamily -> membership-eviction 채널로 다른 서버에도 전파
+ * 메시지 : "U" + userId 목록(,) 또는 "F" + familyId
+ */
+@Component
+@RequiredArgsConstructor
+public class FamilyMembershipCache implements MessageListener {
+    public static final String EVICTION_CHANNEL = "membership-eviction";
+    private static final String USERS = "U";
+    private static final String FAMILY = "F";
+
+    private final UserFamilyRepository userFamilyRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${family.membership-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+    @Value("${family.membership-cache.max-size:10000}")
+    private int maxSize;
+
+    private final Map<Long, Memberships> cache = Collections.synchronizedMap(
+            new LinkedHashMap<Long, Memberships>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Memberships> eldest) {
+                    return size() > maxSize;
+                }
+            });
+
+    /**
+     * 캐시에 없거나 TTL 이 지난 경우 DB 에서 다시 조회
+     */
+    public Memberships get(Long userId) {
+        Memberships memberships = cache.get(userId);
+        if (memberships != null && memberships.expiresAt > System.currentTimeMillis()) {
+            return memberships;
+        }
+        memberships = load(userId);
+        cache.put(userId, memberships);
+        return memberships;
+    }
+
+    public void evict(Long userId) {
+        evictAll(Collections.singletonList(userId));
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 후 한 번 더 삭제하고 다른 서버에 전파
+     * (커밋 전에 다른 요청이 변경 전 소속을 다시 캐시하는 경우 방지)
+     */
+    public void evictAll(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        removeUsers(userIds);
+        String message = USERS + userIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        afterCommit(() -> {
+            removeUsers(userIds);
+            redisTemplate.convertAndSend(EVICTION_CHANNEL, message);
+        });
+    }
+
+    /**
+     * 가족 자체가 바뀐 경우 (삭제, 생성자 변경) 해당 가족이 캐시된 유저 모두 삭제
+     */
+    public void evictFamily(Long familyId) {
+        removeFamily(familyId);
+        afterCommit(() -> {
+            removeFamily(familyId);
+            redisTemplate.convertAndSend(EVICTION_CHANNEL, FAMILY + familyId);
+        });
+    }
+
+    // 다른 서버에서 바뀐 소속 수신 (내 서버에서 보낸 메시지도 수신되지만 삭제만 하므로 무관)
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Object body = redisTemplate.getValueSerializer().deserialize(message.getBody());
+        if (body == null) {
+            return;
+        }
+        String value = (String) body;
+        if (value.startsWith(FAMILY)) {
+            removeFamily(Long.valueOf(value.substring(FAMILY.length())));
+        } else if (value.startsWith(USERS)) {
+            removeUsers(Arrays.stream(value.substring(USERS.length()).split(","))
+                    .map(Long::valueOf)
+                    .collect(Collectors.toList()));
+        }
+    }
+
+    private void removeUsers(Collection<Long> userIds) {
+        userIds.forEach(cache::remove);
+    }
+
+    private void removeFamily(Long familyId) {
+        synchronized (cache) {
+            cache.values().removeIf(memberships -> memberships.indexOf(familyId) >= 0);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+
+    private Memberships load(Long userId) {
+        List<Object[]> rows = userFamilyRepository.findMembershipsByUserId(userId);
+        long[] familyIds = new long[rows.size()];
+        byte[] flags = new byte[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            Object[] row = rows.get(i);
+            familyIds[i] = (Long) row[0];
+            flags[i] = Memberships.flag(
+                    (UserFamily.Status) row[1],
+                    userId.equals(row[2]),
+                    row[3] == BaseEntity.Status.ACTIVE);
+        }
+        return new Memberships(familyIds, flags, System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(ttlSeconds));
+    }
+
+    /**
+     * 한 유저의 가족 소속 목록
+     * ACTIVE 가족은 최대 MAX_FAMILY_COUNT 개라 배열 두 개로 저장
+     */
+    public static class Memberships {
+        private static final int STATUS_MASK = 0x03;
+        private static final int OWNER = 0x04;
+        private static final int FAMILY_ACTIVE = 0x08;
+        private static final UserFamily.Status[] STATUSES = UserFamily.Status.values();
+
+        private final long[] familyIds;
+        private final byte[] flags;
+        private final long expiresAt;   // 캐시 만료 시각(epoch ms)
+
+        private Memberships(long[] familyIds, byte[] flags, long expiresAt) {
+            this.familyIds = familyIds;
+            this.flags = flags;
+            this.expiresAt = expiresAt;
+        }
+
+        private static byte flag(UserFamily.Status status, boolean owner, boolean familyActive) {
+            return (byte) (status.ordinal() | (owner ? OWNER : 0) | (familyActive ? FAMILY_ACTIVE : 0));
+        }
+
+        // 매핑이 존재하는지 (상태 무관)
+        public boolean hasMapping(Long familyId) {
+            return indexOf(familyId) >= 0;
+        }
+
+        // ACTIVE 가족의 ACTIVE 구성원인지
+        public boolean isMember(Long familyId) {
+            int index = indexOf(familyId);
+            return index >= 0 && getStatus(index) == UserFamily.Status.ACTIVE && (flags[index] & FAMILY_ACTIVE) != 0;
+        }
+
+        // ACTIVE 가족의 생성자인지
+        public boolean isOwner(Long familyId) {
+            int index = indexOf(familyId);
+            return index >= 0 && (flags[index] & OWNER) != 0 && (flags[index] & FAMILY_ACTIVE) != 0;
+        }
+
+        // 매핑 상태 (없으면 null)
+        public UserFamily.Status getStatus(Long familyId) {
+            int index = indexOf(familyId);
+            return index < 0 ? null : getStatus(index);
+        }
+
+        // ACTIVE 가족 수 (가족 최대 가입 확인용)
+        public int countActiveFamilies() {
+            int count = 0;
+            for (int i = 0; i < familyIds.length; i++) {
+                if (getStatus(i) == UserFamily.Status.ACTIVE && (flags[i] & FAMILY_ACTIVE) != 0) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        private UserFamily.Status getStatus(int index) {
+            return STATUSES[flags[index] & STATUS_MASK];
+        }
+
+        private int indexOf(Long familyId) {
+            if (familyId == null) {
+                return -1;
+            }
+            for (int i = 0; i < familyIds.length; i++) {
+                if (familyIds[i] == familyId) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -48,4 +48,33 @@ public interface FamilyRepository extends JpaRepository<Family, Long> {
             nativeQuery = true)
     List<Map<String, Object>> findFamiliesWithUploadCycle(@Param("currentDate") LocalDateTime currentDate);
 
+    // 게시글/댓글/좋아요 알림 수신자 조회 (POSTING 알림이 켜진 가족 구성원, 행위자 제외)
+    @Query(value = "SELECT u.id, f.familyName  " +
+            "FROM Family f " +
+            "INNER JOIN UserFamilyMapping m ON f.familyId = m.familyId " +
+            "INNER JOIN User u ON m.userId = u.userId " +
+            "INNER JOIN AlarmSetting a ON u.userId = a.userId " +
+            "WHERE f.familyId = :familyId " +
+            "AND f.status = 'ACTIVE' " +
+            "AND m.status = 'ACTIVE' " +
+            "AND u.status = 'ACTIVE' " +
+            "AND a.alarmType = 'POSTING' " +
+            "AND a.status = 'ACTIVE' " +
+            "AND u.userId <> :actorUserId " +
+            "AND (:receiverUserId IS NULL OR u.userId = :receiverUserId)",
+            nativeQuery = true)
+    List<Map<String, Object>> findNotificationReceivers(@Param("familyId") Long familyId,
+                                                        @Param("actorUserId") Long actorUserId,
+                                                        @Param("receiverUserId") Long receiverUserId);
+
+    // 삭제(INACTIVE) 되었지만 게시글/댓글/매핑 정리가 끝나지 않은 가족 조회 (FamilyDeletionJob 재시작용)
+    @Query(value = "SELECT f.familyId " +
+            "FROM Family f " +
+            "WHERE f.status = 'INACTIVE' " +
+            "AND (EXISTS (SELECT 1 FROM Post p WHERE p.familyId = f.familyId AND p.status = 'ACTIVE') " +
+            "OR EXISTS (SELECT 1 FROM UserFamilyMapping m WHERE m.familyId = f.familyId AND m.status IN ('ACTIVE', 'DEACCEPT'))) " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<Number> findFamilyIdsPendingDeletion(@Param("limit") int limit);
+
 }
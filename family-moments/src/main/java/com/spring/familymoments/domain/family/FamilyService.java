@@ -2,18 +2,19 @@ package com.spring.familymoments.domain.family;
 
 import com.spring.familymoments.config.BaseException;
 import com.spring.familymoments.domain.comment.CommentWithUserRepository;
-import com.spring.familymoments.domain.comment.entity.Comment;
 import com.spring.familymoments.domain.common.BaseEntity;
+import com.spring.familymoments.domain.common.UserFamilyDao;
 import com.spring.familymoments.domain.common.UserFamilyRepository;
 import com.spring.familymoments.domain.common.entity.UserFamily;
 import com.spring.familymoments.domain.family.entity.Family;
 import com.spring.familymoments.domain.family.model.*;
 import com.spring.familymoments.domain.post.PostWithUserRepository;
-import com.spring.familymoments.domain.post.entity.Post;
 import com.spring.familymoments.domain.user.UserRepository;
 import com.spring.familymoments.domain.user.entity.User;
 import com.spring.familymoments.utils.CustomDateTimeUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import org.springframework.transaction.annotation.Transactional;
@@ -33,16 +34,25 @@ public class FamilyService {
     private final UserRepository userRepository;
     private final PostWithUserRepository postWithUserRepository;
     private final CommentWithUserRepository commentWithUserRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final FamilyMembershipCache familyMembershipCache;
+    private final UserFamilyDao userFamilyDao;
+    private final InviteCodeGenerator inviteCodeGenerator;
+    private final InviteCodeCache inviteCodeCache;
 
     private final int MAX_FAMILY_COUNT = 5;
 
+    @Value("${family.invite-code.ttl-days:0}")
+    private long inviteCodeTtlDays;
+
     // 가족 생성하기
     @Transactional
     public PostFamilyRes createFamily(User owner, PostFamilyReq postFamilyReq, String fileUrl) {
         checkFamilyLimit(owner);
 
-        // 초대 링크 생성
-        String invitationCode = UUID.randomUUID().toString();
+        // 초대 코드 생성 (DB 중복 확인 없이 고유한 11자리 코드)
+        String invitationCode = inviteCodeGenerator.generate();
+        LocalDateTime inviteCodeExpiresAt = inviteCodeTtlDays > 0 ? LocalDateTime.now().plusDays(inviteCodeTtlDays) : null;
 
         // 가족 입력 객체 생성
         Family family = Family.builder()
@@ -50,6 +60,7 @@ public class FamilyService {
                 .familyName(postFamilyReq.getFamilyName())
                 .uploadCycle(postFamilyReq.getUploadCycle())
                 .inviteCode(invitationCode)
+                .inviteCodeExpiresAt(inviteCodeExpiresAt)
                 .representImg(fileUrl)
                 .build();
 
@@ -71,6 +82,7 @@ public class FamilyService {
 
         // 유저 가족 저장
         userFamilyRepository.save(userFamily);
+        familyMembershipCache.evict(owner.getUserId());
 
         // 반환
         return new PostFamilyRes(
@@ -109,11 +121,21 @@ public class FamilyService {
         return userFamilyRepository.findActiveUsersByFamilyId(familyId, user.getUserId());
     }
 
-    // 초대코드로 가족 조회
+    // 초대코드로 가족 조회 (만료된 코드는 없는 코드와 동일하게 null)
     @Transactional(readOnly = true)
     public FamilyRes getFamilyByInviteCode(String inviteCode) {
+        FamilyRes cached = inviteCodeCache.get(inviteCode);
+        if (cached != null) {
+            return cached;
+        }
+
+        // uk_family_invite_code 인덱스로 조회
         return familyRepository.findByInviteCode(inviteCode)
-                .map(Family::toFamilyRes)
+                .filter(family -> !family.isInviteCodeExpired())
+                .map(family -> {
+                    inviteCodeCache.put(family);
+                    return family.toFamilyRes();
+                })
                 .orElse(null);
     }
 
@@ -124,31 +146,29 @@ public class FamilyService {
         Family family = familyRepository.findById(familyId)
                 .orElseThrow(() -> new BaseException(FIND_FAIL_FAMILY));
 
-        for (String userId : userIds) {
-            User inviteUser = userRepository.findById(userId)
-                    .orElseThrow(() -> new BaseException(FIND_FAIL_USER));
-
-            Optional<UserFamily> userFamily = userFamilyRepository.findByUserIdAndFamilyId(inviteUser, family);
-
-            userFamily.ifPresentOrElse(
-                    existingUserFamily -> {
-                        if (existingUserFamily.getStatus() == ACTIVE || existingUserFamily.getStatus() == DEACCEPT) {
-                            throw new BaseException(ALREADY_INVITED_USER);
-                        }
-                        existingUserFamily.updateStatus(DEACCEPT);
-                    },
-                    () -> {
-                        UserFamily newUserFamily = UserFamily.builder()
-                                .familyId(family)
-                                .userId(inviteUser)
-                                .inviteUserId(user)
-                                .status(DEACCEPT)
-                                .build();
-
-                        userFamilyRepository.save(newUserFamily);
-                    }
-            );
+        // 1. 초대할 유저 한 번에 조회
+        Set<String> inviteIds = new LinkedHashSet<>(userIds);
+        if (inviteIds.isEmpty()) {
+            return;
+        }
+        List<Long> inviteUserIds = userRepository.findActiveUserIdsByIdIn(inviteIds);
+        if (inviteUserIds.size() != inviteIds.size()) {
+            throw new BaseException(FIND_FAIL_USER);
         }
+
+        // 2. 기존 매핑 한 번에 조회 (거절/탈퇴했던 유저는 다시 초대 대기로)
+        Set<Long> newUserIds = new LinkedHashSet<>(inviteUserIds);
+        for (UserFamily existingUserFamily : userFamilyRepository.findByFamilyIdAndUserIds(family, inviteUserIds)) {
+            if (existingUserFamily.getStatus() == ACTIVE || existingUserFamily.getStatus() == DEACCEPT) {
+                throw new BaseException(ALREADY_INVITED_USER);
+            }
+            existingUserFamily.updateStatus(DEACCEPT);
+            newUserIds.remove(existingUserFamily.getUserId().getUserId());
+        }
+
+        // 3. 새 매핑은 batch insert
+        userFamilyDao.batchInsert(family.getFamilyId(), user.getUserId(), new ArrayList<>(newUserIds), DEACCEPT);
+        familyMembershipCache.evictAll(inviteUserIds);
     }
 
     // 가족 초대 수락
@@ -164,6 +184,8 @@ public class FamilyService {
 
         userFamily.updateStatus(ACTIVE);
         userFamilyRepository.save(userFamily);
+        familyMembershipCache.evict(user.getUserId());
+        eventPublisher.publishEvent(new FamilyHomeEvent(familyId, FamilyHomeSnapshot.Section.MEMBERS));
     }
 
     // 가족 초대 거절
@@ -177,6 +199,7 @@ public class FamilyService {
 
         userFamily.updateStatus(REJECT);
         userFamilyRepository.save(userFamily);
+        familyMembershipCache.evict(user.getUserId());
     }
 
     // 업로드 주기 수정
@@ -192,6 +215,7 @@ public class FamilyService {
 
         family.updateUploadCycle(uploadCycle);
         familyRepository.save(family);
+        inviteCodeCache.evict(family.getInviteCode());
     }
 
     // 가족 삭제
@@ -209,28 +233,19 @@ public class FamilyService {
         UserFamily userFamily = userFamilyRepository.findActiveUserFamilyByUserIdAndFamilyId(user, family)
                 .orElseThrow(() -> new BaseException(FIND_FAIL_USER_IN_FAMILY));
 
-        // 1. 가족 내 게시글의 댓글 일괄 삭제
-        List<Post> postsToDelete = postWithUserRepository.findByFamilyId(family);
-        for (Post post : postsToDelete) {
-            // 해당 게시글의 댓글들의 상태를 일괄적으로 INACTIVE로 변경
-            List<Comment> commentsToDelete = commentWithUserRepository.findByPostId(post);
-            for (Comment comment : commentsToDelete) {
-                comment.updateStatus(Comment.Status.INACTIVE);
-            }
-        }
-
-        // 2. 가족 내 게시글 일괄 삭제
-        for (Post post : postsToDelete) {
-            post.updateStatus(BaseEntity.Status.INACTIVE);
-        }
-
-        // +. 가족-유저 매핑 삭제
+        // 1. 가족-유저 매핑 삭제
         userFamily.updateStatus(UserFamily.Status.INACTIVE);
         userFamilyRepository.save(userFamily);
 
-        // 3. 가족 삭제
+        // 2. 가족 삭제
         family.updateStatus(BaseEntity.Status.INACTIVE);
         familyRepository.save(family);
+        familyMembershipCache.evictFamily(family.getFamilyId());
+        inviteCodeCache.evict(family.getInviteCode());
+        eventPublisher.publishEvent(new FamilyHomeEvent(familyId, FamilyHomeSnapshot.Section.FAMILY));
+
+        // 3. 가족 내 댓글/게시글/나머지 매핑은 커밋 후 FamilyDeletionJob 에서 일괄 삭제
+        eventPublisher.publishEvent(new FamilyDeletedEvent(family.getFamilyId()));
     }
 
     //가족 정보 수정
@@ -245,6 +260,8 @@ public class FamilyService {
 
         family.updateFamily(familyUpdateReq.getFamilyName(), fileUrl);
         familyRepository.save(family);
+        inviteCodeCache.evict(family.getInviteCode());
+        eventPublisher.publishEvent(new FamilyHomeEvent(familyId, FamilyHomeSnapshot.Section.FAMILY));
 
         return family.toFamilyRes();
     }
@@ -255,20 +272,7 @@ public class FamilyService {
         Family family = familyRepository.findById(familyId)
                 .orElseThrow(() -> new BaseException(FIND_FAIL_FAMILY));
 
-        List<Post> posts = postWithUserRepository.findPostByUserId(user.getUserId());
-        for (Post post : posts) {
-            post.updateStatus(BaseEntity.Status.INACTIVE);
-        }
-
-        List<Comment> comments = commentWithUserRepository.findCommentsByUserId(user.getUserId());
-        for (Comment comment : comments) {
-            comment.updateStatus(Comment.Status.INACTIVE);
-        }
-
-        UserFamily userFamily = userFamilyRepository.findByUserIdAndFamilyId(user, family)
-                .orElseThrow(() -> new BaseException(FIND_FAIL_USER_IN_FAMILY));
-
-        userFamilyRepository.delete(userFamily);
+        withdrawMembers(family, Collections.singletonList(user.getUserId()));
     }
 
     // 가족 강제 탈퇴
@@ -281,17 +285,35 @@ public class FamilyService {
             throw new BaseException(NOT_FAMILY_OWNER);
         }
 
-        String requestUserId = user.getId();
-        for (String userId : userIds) {
-            if (requestUserId.equals(userId)) {
-                throw new BaseException(CANNOT_EMISSION_SELF);
-            }
+        Set<String> emissionIds = new HashSet<>(userIds);
+        if (emissionIds.contains(user.getId())) {
+            throw new BaseException(CANNOT_EMISSION_SELF);
+        }
+
+        List<Long> emissionUserIds = userRepository.findActiveUserIdsByIdIn(emissionIds);
+        if (emissionUserIds.size() != emissionIds.size()) {
+            throw new BaseException(FIND_FAIL_USER);
+        }
+
+        withdrawMembers(family, emissionUserIds);
+    }
 
-            User emissionUser = userRepository.findById(userId)
-                    .orElseThrow(() -> new BaseException(FIND_FAIL_USER));
+    // 해당 가족에서만 유저들의 매핑 삭제 + 게시글/댓글 일괄 INACTIVE (유저 수와 상관없이 쿼리 3번)
+    private void withdrawMembers(Family family, List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
 
-            withdrawFamily(emissionUser, familyId);
+        int deleted = userFamilyRepository.deleteByFamilyIdAndUserIds(family.getFamilyId(), userIds);
+        if (deleted != userIds.size()) {
+            throw new BaseException(FIND_FAIL_USER_IN_FAMILY);
         }
+
+        commentWithUserRepository.deactivateCommentsByFamilyIdAndUserIds(family.getFamilyId(), userIds);
+        postWithUserRepository.deactivatePostsByFamilyIdAndUserIds(family.getFamilyId(), userIds);
+        familyMembershipCache.evictAll(userIds);
+        eventPublisher.publishEvent(new FamilyHomeEvent(family.getFamilyId(), FamilyHomeSnapshot.Section.MEMBERS));
+        eventPublisher.publishEvent(new FamilyHomeEvent(family.getFamilyId(), FamilyHomeSnapshot.Section.POSTS));
     }
 
     // 가족 권한 수정
@@ -314,6 +336,9 @@ public class FamilyService {
                 .orElseThrow(() -> new BaseException(FIND_FAIL_USER));
 
         family.updateFamilyOwner(userToOwner);
+        familyMembershipCache.evictFamily(familyId);
+        inviteCodeCache.evict(family.getInviteCode());
+        eventPublisher.publishEvent(new FamilyHomeEvent(familyId, FamilyHomeSnapshot.Section.FAMILY));
     }
 
     // 가족 권한 확인
@@ -352,6 +377,8 @@ public class FamilyService {
                     userFamilyRepository.save(newUserFamily);
                 }
         );
+        familyMembershipCache.evict(user.getUserId());
+        eventPublisher.publishEvent(new FamilyHomeEvent(familyId, FamilyHomeSnapshot.Section.MEMBERS));
     }
 
     // 내 가족 리스트 조회
@@ -370,9 +397,7 @@ public class FamilyService {
 
     // 가족 최대 가입 유효성 확인
     private void checkFamilyLimit(User user) {
-        List<Family> activeFamilies = familyRepository.findActiveFamilyByUserId(user);
-
-        if (activeFamilies.size() >= MAX_FAMILY_COUNT) {
+        if (familyMembershipCache.get(user.getUserId()).countActiveFamilies() >= MAX_FAMILY_COUNT) {
             throw new BaseException(FAMILY_LIMIT_EXCEEDED);
         }
     }
@@ -384,7 +409,7 @@ public class FamilyService {
         Family family = familyRepository.findById(familyId)
                 .orElseThrow(() -> new BaseException(FIND_FAIL_FAMILY));
 
-        if (!userFamilyRepository.existsByUserIdAndFamilyId(user, family)) {
+        if (!familyMembershipCache.get(user.getUserId()).hasMapping(familyId)) {
             throw new BaseException(FIND_FAIL_USER_IN_FAMILY);
         }
 
@@ -0,0 +1,83 @@
+package com.spring.familymoments.domain.family;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.familymoments.domain.family.entity.Family;
+import com.spring.familymoments.domain.family.model.FamilyRes;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 초대 코드 -> 가족 정보(FamilyRes) 캐시
+ * INVITE_CODE(초대 코드): FamilyRes (JSON), TTL 은 ttl-seconds 와 코드 만료 시각 중 빠른 쪽
+ * 가족 이름/대표 이미지/업로드 주기/생성자가 바뀌면 커밋 후 삭제 (Redis 에 두므로 모든 서버에 반영)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InviteCodeCache {
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${family.invite-code.cache.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    /**
+     * @return 캐시된 가족 정보, 없으면 null
+     */
+    public FamilyRes get(String inviteCode) {
+        String json = redisTemplate.opsForValue().get(key(inviteCode));
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, FamilyRes.class);
+        } catch (JsonProcessingException e) {
+            redisTemplate.delete(key(inviteCode));
+            return null;
+        }
+    }
+
+    // 만료되지 않은 코드만 저장
+    public void put(Family family) {
+        long ttlMillis = TimeUnit.SECONDS.toMillis(ttlSeconds);
+        if (family.getInviteCodeExpiresAt() != null) {
+            ttlMillis = Math.min(ttlMillis, Duration.between(LocalDateTime.now(), family.getInviteCodeExpiresAt()).toMillis());
+        }
+        if (ttlMillis <= 0) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(key(family.getInviteCode()),
+                    objectMapper.writeValueAsString(family.toFamilyRes()), ttlMillis, TimeUnit.MILLISECONDS);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to cache invite code - family: {}", family.getFamilyId(), e);
+        }
+    }
+
+    public void evict(String inviteCode) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    redisTemplate.delete(key(inviteCode));
+                }
+            });
+            return;
+        }
+        redisTemplate.delete(key(inviteCode));
+    }
+
+    private static String key(String inviteCode) {
+        return "INVITE_CODE(" + inviteCode + ")";
+    }
+}
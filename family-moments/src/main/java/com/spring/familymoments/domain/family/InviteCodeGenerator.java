@@ -0,0 +1,102 @@
+package com.spring.familymoments.domain.family;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 가족 초대 코드 생성
+ * 생성 시각(초, 31bit) + 서버 번호(10bit) + 초당 순번(23bit) 을 합친 64bit 값은 서버 번호가 겹치지 않는 한 중복되지 않으므로
+ * DB 에 중복 확인을 하지 않음 (서버 번호는 InviteCodeNodeLease 가 Redis 에서 임대). 순서가 드러나지 않도록 역변환 가능한 비트 섞기를 거친 뒤 base62 11자리로 변환
+ */
+@Component
+public class InviteCodeGenerator {
+    public static final int CODE_LENGTH = 11;   // 62^11 > 2^64
+
+    private static final char[] ALPHABET = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz".toCharArray();
+    private static final long EPOCH_SECONDS = Instant.parse("2023-01-01T00:00:00Z").getEpochSecond();
+    private static final int NODE_BITS = 10;
+    public static final int NODE_COUNT = 1 << NODE_BITS;
+    private static final int SEQUENCE_BITS = 23;
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+    private final LongSupplier nodeIdSupplier;
+
+    private long lastSecond = -1;
+    private long sequence = 0;
+
+    @Autowired
+    public InviteCodeGenerator(InviteCodeNodeLease nodeLease) {
+        this.nodeIdSupplier = nodeLease::getNodeId;
+    }
+
+    /**
+     * @param nodeId 고정 서버 번호 (0 ~ 1023)
+     */
+    public InviteCodeGenerator(long nodeId) {
+        validateNodeId(nodeId);
+        this.nodeIdSupplier = () -> nodeId;
+    }
+
+    public String generate() {
+        return encode(mix(nextId()));
+    }
+
+    private synchronized long nextId() {
+        long nodeId = nodeIdSupplier.getAsLong();
+        validateNodeId(nodeId);
+        long second = currentSecond();
+        if (second < lastSecond) {
+            // 시계가 뒤로 간 경우 마지막 시각 기준으로 계속 발급
+            second = lastSecond;
+        }
+        if (second == lastSecond) {
+            if (sequence == MAX_SEQUENCE) {
+                // 1초에 순번을 다 쓴 경우 다음 초까지 대기
+                while ((second = currentSecond()) <= lastSecond) {
+                    Thread.onSpinWait();
+                }
+                sequence = 0;
+            } else {
+                sequence++;
+            }
+        } else {
+            sequence = 0;
+        }
+        lastSecond = second;
+        return (second << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+
+    private static void validateNodeId(long nodeId) {
+        if (nodeId < 0 || nodeId >= NODE_COUNT) {
+            throw new IllegalStateException("invite code node id must be between 0 and " + (NODE_COUNT - 1));
+        }
+    }
+
+    private long currentSecond() {
+        return TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) - EPOCH_SECONDS;
+    }
+
+    // 역변환이 가능한(1:1) 64bit 비트 섞기 (MurmurHash3 fmix64) -> 서로 다른 값은 서로 다른 코드
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    // 부호 없는 64bit 값을 고정 길이 base62 로 변환
+    private static String encode(long value) {
+        char[] code = new char[CODE_LENGTH];
+        for (int i = CODE_LENGTH - 1; i >= 0; i--) {
+            code[i] = ALPHABET[(int) Long.remainderUnsigned(value, ALPHABET.length)];
+            value = Long.divideUnsigned(value, ALPHABET.length);
+        }
+        return new String(code);
+    }
+}
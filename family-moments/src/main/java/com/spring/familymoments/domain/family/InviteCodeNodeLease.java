@@ -0,0 +1,125 @@
+package com.spring.familymoments.domain.family;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 초대 코드 서버 번호 임대
+ * 서버마다 설정으로 번호를 나눠주지 않고 시작 시 Redis 에서 비어있는 번호(0 ~ 1023)를 TTL 을 걸어 가져감
+ *
+ * INVITE_CODE_NODE(번호): 값 = 서버 인스턴스 id, lease-seconds 동안 유지 (주기적으로 연장)
+ * INVITE_CODE_NODE_SEQ: 다음에 시도할 번호 (INCR mod 1024)
+ * 연장에 실패하면(만료 후 다른 서버가 가져간 경우) 새 번호를 다시 임대
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InviteCodeNodeLease {
+    private static final String KEY_PREFIX = "INVITE_CODE_NODE(";
+    private static final String SEQ_KEY = "INVITE_CODE_NODE_SEQ";
+
+    // 내가 가진 번호일 때만 연장
+    private static final RedisScript<Long> REFRESH_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+            "return 1",
+            Long.class);
+
+    // 내가 가진 번호일 때만 반납
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end " +
+            "return redis.call('DEL', KEYS[1])",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String owner = UUID.randomUUID().toString();
+
+    @Value("${family.invite-code.node-lease-seconds:60}")
+    private long leaseSeconds;
+
+    private volatile long nodeId = -1;
+    private volatile long validUntil = 0;   // 이 시각(epoch ms)까지는 다른 서버가 이 번호를 가져갈 수 없음
+
+    // 번호를 얻지 못하면 서버가 시작되지 않음
+    @PostConstruct
+    public void init() {
+        lease();
+    }
+
+    /**
+     * 현재 서버 번호 - 임대 기간이 지났으면 연장/재임대 후 반환
+     */
+    public long getNodeId() {
+        if (System.currentTimeMillis() >= validUntil) {
+            renew();
+        }
+        return nodeId;
+    }
+
+    /**
+     * 임대 기간의 1/3 마다 연장 (기본 20초)
+     */
+    @Scheduled(initialDelayString = "${family.invite-code.node-lease-refresh-ms:20000}",
+            fixedDelayString = "${family.invite-code.node-lease-refresh-ms:20000}")
+    public void refresh() {
+        try {
+            renew();
+        } catch (Exception e) {
+            log.error("Failed to refresh invite code node lease - node: {}", nodeId, e);
+        }
+    }
+
+    @PreDestroy
+    public void release() {
+        if (nodeId >= 0) {
+            redisTemplate.execute(RELEASE_SCRIPT, Collections.singletonList(key(nodeId)), owner);
+        }
+    }
+
+    private synchronized void renew() {
+        long start = System.currentTimeMillis();
+        if (nodeId >= 0 && Long.valueOf(1).equals(redisTemplate.execute(REFRESH_SCRIPT,
+                Collections.singletonList(key(nodeId)), owner, String.valueOf(leaseMillis())))) {
+            validUntil = start + leaseMillis();
+            return;
+        }
+        log.warn("Invite code node lease lost - node: {}", nodeId);
+        lease();
+    }
+
+    private synchronized void lease() {
+        for (int i = 0; i < InviteCodeGenerator.NODE_COUNT; i++) {
+            long start = System.currentTimeMillis();
+            Long next = redisTemplate.opsForValue().increment(SEQ_KEY);
+            long candidate = Math.floorMod(next == null ? i : next, InviteCodeGenerator.NODE_COUNT);
+            if (Boolean.TRUE.equals(redisTemplate.opsForValue()
+                    .setIfAbsent(key(candidate), owner, leaseMillis(), TimeUnit.MILLISECONDS))) {
+                nodeId = candidate;
+                validUntil = start + leaseMillis();
+                log.info("Invite code node id leased - node: {}", candidate);
+                return;
+            }
+        }
+        throw new IllegalStateException("No free invite code node id");
+    }
+
+    private long leaseMillis() {
+        return TimeUnit.SECONDS.toMillis(leaseSeconds);
+    }
+
+    private static String key(long nodeId) {
+        return KEY_PREFIX + nodeId + ")";
+    }
+}
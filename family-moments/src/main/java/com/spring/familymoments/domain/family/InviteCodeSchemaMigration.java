@@ -0,0 +1,62 @@
+package com.spring.familymoments.domain.family;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 초대 코드 컬럼 스키마 변경 (기존 DB)
+ * ddl-auto=update 는 컬럼 타입을 바꾸지 않고, MySQL 은 TEXT 컬럼에 UNIQUE 인덱스를 만들 수 없으므로 직접 실행
+ *
+ * ALTER TABLE Family MODIFY inviteCode VARCHAR(36) NOT NULL,
+ *     ADD UNIQUE INDEX uk_family_invite_code (inviteCode),
+ *     ADD COLUMN inviteCodeExpiresAt DATETIME(6) NULL
+ *
+ * information_schema 로 현재 상태를 확인해서 필요한 부분만 실행 (이미 적용된 DB 에서는 아무것도 하지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InviteCodeSchemaMigration {
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        try {
+            List<String> changes = new ArrayList<>();
+            String dataType = jdbcTemplate.queryForObject(
+                    "SELECT DATA_TYPE FROM information_schema.COLUMNS " +
+                    "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'Family' AND COLUMN_NAME = 'inviteCode'", String.class);
+            if (!"varchar".equalsIgnoreCase(dataType)) {
+                changes.add("MODIFY inviteCode VARCHAR(36) NOT NULL");
+            }
+            if (count("SELECT COUNT(*) FROM information_schema.STATISTICS " +
+                    "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'Family' AND INDEX_NAME = 'uk_family_invite_code'") == 0) {
+                changes.add("ADD UNIQUE INDEX uk_family_invite_code (inviteCode)");
+            }
+            if (count("SELECT COUNT(*) FROM information_schema.COLUMNS " +
+                    "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'Family' AND COLUMN_NAME = 'inviteCodeExpiresAt'") == 0) {
+                changes.add("ADD COLUMN inviteCodeExpiresAt DATETIME(6) NULL");
+            }
+            if (changes.isEmpty()) {
+                return;
+            }
+            jdbcTemplate.execute("ALTER TABLE Family " + String.join(", ", changes));
+            log.info("Family invite code schema migrated - {}", changes);
+        } catch (Exception e) {
+            // 중복된 기존 코드 등으로 실패하면 서버는 그대로 띄우고 수동 확인
+            log.error("Failed to migrate Family invite code schema", e);
+        }
+    }
+
+    private int count(String sql) {
+        Integer count = jdbcTemplate.queryForObject(sql, Integer.class);
+        return count == null ? 0 : count;
+    }
+}
@@ -17,7 +17,7 @@ import java.time.LocalDateTime;
 
 @EqualsAndHashCode(callSuper = false)
 @Entity
-@Table(name = "Family")
+@Table(name = "Family", indexes = @Index(name = "uk_family_invite_code", columnList = "inviteCode", unique = true))
 @Getter
 @ToString
 @NoArgsConstructor(force = true)
@@ -43,9 +43,14 @@ public class Family extends BaseEntity {
     @Column(columnDefinition = "int unsigned")
     private Integer uploadCycle;
 
-    @Column(columnDefinition = "TEXT", nullable = false)
+    // 새 코드는 InviteCodeGenerator 의 11자리 코드, 기존 UUID(36자) 코드도 그대로 사용 가능
+    @Column(name = "inviteCode", nullable = false, length = 36)
     private String inviteCode;
 
+    // 초대 코드 만료 시각 (null 이면 만료 없음)
+    @Column(name = "inviteCodeExpiresAt")
+    private LocalDateTime inviteCodeExpiresAt;
+
     @Column(nullable = false, columnDefinition = "TEXT")
     private String representImg;
 
@@ -113,6 +118,13 @@ public class Family extends BaseEntity {
         this.owner = owner;
     }
 
+    /**
+     * 초대 코드로 가족 조회 API 관련 메소드
+     */
+    public boolean isInviteCodeExpired() {
+        return inviteCodeExpiresAt != null && !inviteCodeExpiresAt.isAfter(LocalDateTime.now());
+    }
+
     public boolean isOwner(User user){
         return user.equals(this.owner);
     }
@@ -0,0 +1,14 @@
+package com.spring.familymoments.domain.family.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 가족 삭제(INACTIVE) 시 발행되는 이벤트
+ * 커밋 후 FamilyDeletionJob 이 게시글/댓글/매핑을 정리
+ */
+@Getter
+@AllArgsConstructor
+public class FamilyDeletedEvent {
+    private Long familyId;
+}
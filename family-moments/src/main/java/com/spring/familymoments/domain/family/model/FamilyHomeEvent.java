@@ -0,0 +1,15 @@
+package com.spring.familymoments.domain.family.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 가족 홈 스냅샷 갱신 이벤트
+ * 가족 정보/구성원/게시글이 바뀐 경우 해당 부분(section)만 다시 계산
+ */
+@Getter
+@AllArgsConstructor
+public class FamilyHomeEvent {
+    private Long familyId;
+    private FamilyHomeSnapshot.Section section;
+}
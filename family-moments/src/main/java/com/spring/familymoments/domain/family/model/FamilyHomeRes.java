@@ -0,0 +1,39 @@
+package com.spring.familymoments.domain.family.model;
+
+import com.spring.familymoments.domain.post.model.AlbumRes;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@Builder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Schema(description = "가족 홈 화면 정보")
+public class FamilyHomeRes {
+    @Schema(description = "가족 id")
+    private Long familyId;
+    @Schema(description = "가족 이름")
+    private String familyName;
+    @Schema(description = "대표 이미지")
+    private String representImg;
+    @Schema(description = "가족 권한자")
+    private Long ownerId;
+    @Schema(description = "업로드 주기")
+    private Integer uploadCycle;
+    @Schema(description = "가족 생성일", example = "2023-12-01 10:00:00")
+    private String createdAt;
+    @Schema(description = "내 닉네임")
+    private String nickname;
+    @Schema(description = "내가 가족 권한자인지")
+    private boolean owner;
+    @Schema(description = "가족 구성원 (나 포함)")
+    private List<FamilyMemberRes> members;
+    @Schema(description = "ACTIVE 게시글 수")
+    private long postCount;
+    @Schema(description = "최근 업로드 시각", example = "2023-12-01 10:00:00")
+    private String latestUploadAt;
+    @Schema(description = "최근 게시글 대표 이미지")
+    private List<AlbumRes> thumbnails;
+}
@@ -0,0 +1,49 @@
+package com.spring.familymoments.domain.family.model;
+
+import com.spring.familymoments.domain.post.model.AlbumRes;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 가족 홈 화면 스냅샷 (Redis 해시 FAMILY_HOME(familyId) 에 부분별로 저장)
+ * FAMILY: 가족 정보 / MEMBERS: 구성원 목록 / POSTS: 게시글 수, 최근 업로드, 대표 썸네일
+ */
+public class FamilyHomeSnapshot {
+
+    public enum Section {
+        FAMILY, MEMBERS, POSTS
+    }
+
+    @Builder
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class FamilyInfo {
+        private Long familyId;
+        private String familyName;
+        private String representImg;
+        private Long ownerId;
+        private Integer uploadCycle;
+        private String createdAt;       // yyyy-MM-dd HH:mm:ss
+        private boolean active;
+    }
+
+    @Builder
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class Members {
+        private List<FamilyMemberRes> members;
+    }
+
+    @Builder
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class PostSummary {
+        private long postCount;
+        private String latestUploadAt;  // yyyy-MM-dd HH:mm:ss, 게시글이 없으면 null
+        private List<AlbumRes> thumbnails;
+    }
+}
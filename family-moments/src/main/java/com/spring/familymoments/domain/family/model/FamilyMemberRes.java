@@ -0,0 +1,20 @@
+package com.spring.familymoments.domain.family.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Builder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Schema(description = "가족 구성원")
+public class FamilyMemberRes {
+    @Schema(description = "유저 번호")
+    private Long userId;
+    @Schema(description = "유저 아이디")
+    private String id;
+    @Schema(description = "닉네임")
+    private String nickname;
+    @Schema(description = "프로필 이미지")
+    private String profileImg;
+}
@@ -15,12 +15,29 @@ public class FCMScheduler {
      * 업로드 알림
      * Cron 표현식을 사용한 작업 예약
      * 초(0-59) 분(0-59) 시간(0-23) 일(1-31) 월(1-12) 요일(0-7)
+     * 10시에 대상을 조회해서 큐에 등록만 하고, 전송은 fcm.reminder.window-minutes 동안 나눠서 진행
      */
 //    @Scheduled(initialDelay = 0, fixedDelay = 60000)    // 초기 지연: 0밀리초, 실행 간격: 60초
     @Scheduled(cron = "0 0 10 * * *")
     public void sendUploadAlarm() {
         log.info("=== UPLOAD ALRAM START ===");
-        fcmService.sendUploadAlram();
+        fcmService.scheduleUploadAlram();
         log.info("=== UPLOAD ALRAM END ===");
     }
+
+    /**
+     * 분산 전송 큐에서 전송 시각이 된 업로드 알림 전송 (1초마다)
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void releaseUploadAlarm() {
+        fcmService.releaseUploadAlram();
+    }
+
+    /**
+     * 만료된 FCM 토큰 정리 (기본 10분마다, 배치 단위로 조금씩)
+     */
+    @Scheduled(fixedDelayString = "${fcm.token.prune-interval:600000}")
+    public void pruneStaleTokens() {
+        fcmService.pruneStaleTokens();
+    }
 }
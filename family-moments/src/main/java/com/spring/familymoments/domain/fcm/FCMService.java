@@ -1,10 +1,14 @@
 package com.spring.familymoments.domain.fcm;
 
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.firebase.messaging.BatchResponse;
 import com.google.firebase.messaging.FirebaseMessaging;
-import com.google.firebase.messaging.FirebaseMessagingException;
-import com.google.firebase.messaging.Message;
 import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.MulticastMessage;
 import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
 import com.spring.familymoments.domain.family.FamilyRepository;
 import com.spring.familymoments.domain.fcm.model.MessageTemplate;
 import com.spring.familymoments.domain.fcm.model.UploadaAlramDto;
@@ -13,6 +17,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
@@ -21,76 +29,139 @@ public class FCMService implements NotificationService {
     private final FirebaseMessaging firebaseMessaging;
     private final FamilyRepository familyRepository;
     private final FCMTokenDao fcmTokenDao;
+    private final ReminderDeliveryQueue reminderDeliveryQueue;
 
+    private static final int PRUNE_BATCH_SIZE = 500;
+
+    // 업로드 알림 즉시 전송
     public void sendUploadAlram() {
+        findUploadAlrams().forEach(this::sendMessage);
+        log.info("Upload Alram successfully sent.");
+    }
+
+    // 업로드 알림을 분산 전송 큐에 등록 (실제 전송은 releaseUploadAlram 에서)
+    public void scheduleUploadAlram() {
+        reminderDeliveryQueue.schedule(findUploadAlrams());
+    }
+
+    // 전송 시각이 된 업로드 알림 전송
+    public void releaseUploadAlram() {
+        reminderDeliveryQueue.pollReleasable().forEach(this::sendMessage);
+    }
+
+    private List<UploadaAlramDto> findUploadAlrams() {
         LocalDateTime today = LocalDateTime.now().withHour(0).withMinute(0).withSecond(0).withNano(0);
 
-        // 현재 날짜를 기준으로 업로드 사이클이 되었다면 알림 전송
-        familyRepository.findFamiliesWithUploadCycle(today)
+        // 현재 날짜를 기준으로 업로드 사이클이 된 (유저, 가족) 목록을 유저 단위로 묶음
+        Map<String, List<Map<String, Object>>> rowsByUser = familyRepository.findFamiliesWithUploadCycle(today)
                 .stream()
-                .forEach(user -> {
-                    sendMessage(new UploadaAlramDto(
-                            (String) user.get("id"),
-                            (String) user.get("nickname"),
-                            (String) user.get("familyName"),
-                            MessageTemplate.UPLOAD_ALARM)
-                    );
-                });
-        log.info("Upload Alram successfully sent.");
+                .collect(Collectors.groupingBy(row -> (String) row.get("id"), LinkedHashMap::new, Collectors.toList()));
+
+        // 여러 가족에 속한 유저도 알림은 1개만 전송
+        return rowsByUser.entrySet().stream()
+                .map(entry -> new UploadaAlramDto(
+                        entry.getKey(),
+                        (String) entry.getValue().get(0).get("nickname"),
+                        entry.getValue().stream()
+                                .map(row -> (String) row.get("familyName"))
+                                .collect(Collectors.toList()),
+                        MessageTemplate.UPLOAD_ALARM))
+                .collect(Collectors.toList());
     }
 
     private void sendMessage(UploadaAlramDto dto) {
+        sendMulticastAsync(dto.getId(), Notification.builder()
+                .setBody(createMessageBody(dto))
+                .build());
+    }
+
+    /**
+     * 게시글/댓글/좋아요 알림 전송
+     */
+    public void sendNotificationAsync(String id, String title, String body) {
+        sendMulticastAsync(id, Notification.builder()
+                .setTitle(title)
+                .setBody(body)
+                .build());
+    }
+
+    /**
+     * 유저의 모든 기기에 전송 (sendEachForMulticast - 토큰별 HTTP v1 요청, 종료된 legacy batch API 사용 X)
+     * 결과를 기다리지 않고 콜백에서 만료된 토큰만 골라서 삭제
+     */
+    private void sendMulticastAsync(String id, Notification notification) {
         // FCM 토큰 존재 여부 확인. 로그아웃(FCM 토큰 삭제)된 경우 알람 전송하지 않음.
-        if (!hasKey(dto.getId())) {
-            log.warn("FCM token not found for user with ID: " + dto.getId());
+        List<String> tokens = fcmTokenDao.getTokens(id);
+        if (tokens.isEmpty()) {
+            log.warn("FCM token not found for user with ID: " + id);
             return;
         }
 
-        // 메시지 전송
-        try {
-            firebaseMessaging.send(createMessage(dto));
-        } catch (FirebaseMessagingException e) {
-            if (e.getMessagingErrorCode() == MessagingErrorCode.UNREGISTERED) {
-                // FCM 토큰이 더 이상 유효하지 않은 경우에 대한 처리
-                // 예: 토큰을 데이터베이스에서 삭제하거나 다시 등록 요청을 보내는 등의 작업 수행
-                log.error("FCM token for user {} is invalid or unregistered", dto.getId());
-                deleteToken(dto.getId());     // FCM Token 삭제
-            } else {
-                // 그 외의 FCM 예외 처리
-                log.error("Failed to send FCM message to user {}", dto.getId());
-            }
-        }
-    }
-
-    private Message createMessage(UploadaAlramDto dto) {
-        return Message.builder()
-                .setToken(getToken(dto.getId()))
-                .setNotification(createNotification(dto))
+        MulticastMessage message = MulticastMessage.builder()
+                .addAllTokens(tokens)
+                .setNotification(notification)
                 .build();
-    }
 
-    private Notification createNotification(UploadaAlramDto dto) {
-        return Notification.builder()
-                .setBody(createMessageBody(dto))
-                .build();
+        ApiFutures.addCallback(firebaseMessaging.sendEachForMulticastAsync(message), new ApiFutureCallback<BatchResponse>() {
+            @Override
+            public void onSuccess(BatchResponse batchResponse) {
+                List<SendResponse> responses = batchResponse.getResponses();
+                for (int i = 0; i < responses.size(); i++) {
+                    SendResponse response = responses.get(i);
+                    if (!response.isSuccessful()
+                            && response.getException().getMessagingErrorCode() == MessagingErrorCode.UNREGISTERED) {
+                        // FCM 토큰이 더 이상 유효하지 않은 경우 해당 기기 토큰만 삭제
+                        log.error("FCM token for user {} is invalid or unregistered", id);
+                        fcmTokenDao.deleteToken(id, tokens.get(i));
+                    }
+                }
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                log.error("Failed to send FCM message to user {}", id);
+            }
+        }, MoreExecutors.directExecutor());
     }
 
     private String createMessageBody(UploadaAlramDto dto) {
-        return String.format(dto.getTemplate().getTemplate(), dto.getNickname(), dto.getFamilyName());
+        List<String> familyNames = dto.getFamilyNames();
+        if (familyNames.size() == 1) {
+            return String.format(dto.getTemplate().getTemplate(), dto.getNickname(), familyNames.get(0));
+        }
+        return String.format(dto.getTemplate().getGroupedTemplate(), dto.getNickname(), familyNames.get(0), familyNames.size() - 1);
     }
 
     public void saveToken(String id, String fcmToken) { fcmTokenDao.saveToken(id, fcmToken); }
 
-    public void deleteToken(String id) {
-        fcmTokenDao.deleteToken(id);
+    // 소셜 신규 회원 : 가입 완료 전까지 이메일로 임시 저장
+    public void savePendingToken(String email, String fcmToken) { fcmTokenDao.savePendingToken(email, fcmToken); }
+
+    public void bindPendingToken(String email, String id) { fcmTokenDao.bindPendingToken(email, id); }
+
+    // 로그아웃 : 요청한 기기의 토큰만 삭제 (토큰을 모르면 전체 삭제)
+    public void deleteToken(String id, String fcmToken) {
+        if (fcmToken == null || fcmToken.isEmpty()) {
+            deleteTokens(id);
+            return;
+        }
+        fcmTokenDao.deleteToken(id, fcmToken);
     }
 
-    private String getToken(String id) {
-        return fcmTokenDao.getToken(id);
+    // 회원 탈퇴 : 모든 기기의 토큰 삭제
+    public void deleteTokens(String id) {
+        fcmTokenDao.deleteTokens(id);
     }
 
-    private boolean hasKey(String id) {
-        return fcmTokenDao.hasKey(id);
+    /**
+     * 마지막 접속 후 TTL 이 지난 토큰 정리
+     * 한 번에 PRUNE_BATCH_SIZE 개씩, 남은 토큰은 다음 주기에 이어서 처리
+     */
+    public void pruneStaleTokens() {
+        int pruned = fcmTokenDao.pruneStaleTokens(PRUNE_BATCH_SIZE);
+        if (pruned > 0) {
+            log.info("Pruned {} stale FCM tokens.", pruned);
+        }
     }
 
 }
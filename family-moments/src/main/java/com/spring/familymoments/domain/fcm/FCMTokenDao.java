@@ -1,28 +1,183 @@
 package com.spring.familymoments.domain.fcm;
 
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 유저별 FCM 토큰 저장소 (기기 여러 대 지원)
+ *
+ * FCM(아이디):        Hash  { 토큰 : 마지막 접속 시각(ms) }
+ * FCM:LAST_SEEN       ZSet  { "아이디|토큰" : 마지막 접속 시각(ms) } -> 오래된 토큰 정리용 인덱스
+ * FCM_PENDING(이메일): 소셜 신규 회원의 가입 완료 전 임시 토큰
+ * (이전 형식인 아이디/이메일 키의 토큰은 LegacyFCMTokenMigration 에서 옮김)
+ */
 @Repository
 @RequiredArgsConstructor
 public class FCMTokenDao {
+    private static final String LAST_SEEN_INDEX = "FCM:LAST_SEEN";
+    private static final String MEMBER_DELIMITER = "|";
+    private static final long PENDING_TOKEN_TTL_MINUTES = 30;
+
     private final StringRedisTemplate tokenRedisTemplate;
 
+    @Value("${fcm.token.ttl-days:60}")
+    private long tokenTtlDays;
+
     public void saveToken(String userId, String fcmToken) {
-        tokenRedisTemplate.opsForValue()
-                .set(userId, fcmToken);
+        long now = System.currentTimeMillis();
+        String key = tokenKey(userId);
+
+        // HSET, EXPIRE, ZADD 를 한 번에 전송
+        tokenRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.hSet(key, fcmToken, String.valueOf(now));
+            stringConnection.expire(key, TimeUnit.DAYS.toSeconds(tokenTtlDays));
+            stringConnection.zAdd(LAST_SEEN_INDEX, now, indexMember(userId, fcmToken));
+            return null;
+        });
+    }
+
+    public List<String> getTokens(String userId) {
+        List<String> tokens = new ArrayList<>();
+        for (Object token : tokenRedisTemplate.opsForHash().keys(tokenKey(userId))) {
+            tokens.add((String) token);
+        }
+        return tokens;
     }
 
-    public String getToken(String userId) {
-        return tokenRedisTemplate.opsForValue().get(userId);
+    // 특정 기기의 토큰만 삭제 (로그아웃, 만료된 토큰)
+    public void deleteToken(String userId, String fcmToken) {
+        tokenRedisTemplate.opsForHash().delete(tokenKey(userId), fcmToken);
+        tokenRedisTemplate.opsForZSet().remove(LAST_SEEN_INDEX, indexMember(userId, fcmToken));
     }
 
-    public void deleteToken(String userId) {
-        tokenRedisTemplate.delete(userId);
+    // 유저의 모든 기기 토큰 삭제 (회원 탈퇴)
+    public void deleteTokens(String userId) {
+        Object[] members = getTokens(userId).stream()
+                .map(token -> indexMember(userId, token))
+                .toArray();
+        if (members.length > 0) {
+            tokenRedisTemplate.opsForZSet().remove(LAST_SEEN_INDEX, members);
+        }
+        tokenRedisTemplate.delete(tokenKey(userId));
     }
 
     public boolean hasKey(String userId) {
-        return tokenRedisTemplate.hasKey(userId);
+        return Boolean.TRUE.equals(tokenRedisTemplate.hasKey(tokenKey(userId)));
+    }
+
+    /**
+     * 마지막 접속이 TTL 보다 오래된 토큰을 최대 batchSize 개 삭제
+     * @return 삭제한 토큰 수 (batchSize 와 같으면 남은 토큰이 더 있을 수 있음)
+     */
+    public int pruneStaleTokens(int batchSize) {
+        long cutoff = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(tokenTtlDays);
+        Set<String> staleMembers = tokenRedisTemplate.opsForZSet()
+                .rangeByScore(LAST_SEEN_INDEX, 0, cutoff, 0, batchSize);
+        if (staleMembers == null || staleMembers.isEmpty()) {
+            return 0;
+        }
+
+        // 토큰별 HDEL + 인덱스 ZREM 을 파이프라인 한 번으로 처리
+        tokenRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (String member : staleMembers) {
+                int delimiter = member.indexOf(MEMBER_DELIMITER);
+                stringConnection.hDel(tokenKey(member.substring(0, delimiter)), member.substring(delimiter + 1));
+            }
+            stringConnection.zRem(LAST_SEEN_INDEX, staleMembers.toArray(new String[0]));
+            return null;
+        });
+        return staleMembers.size();
+    }
+
+    /**
+     * 소셜 신규 회원은 아이디가 정해지기 전이므로 이메일로 임시 저장 후, 가입 완료 시 아이디로 옮김
+     */
+    public void savePendingToken(String email, String fcmToken) {
+        tokenRedisTemplate.opsForValue().set(pendingKey(email), fcmToken, PENDING_TOKEN_TTL_MINUTES, TimeUnit.MINUTES);
+    }
+
+    public void bindPendingToken(String email, String userId) {
+        String fcmToken = tokenRedisTemplate.opsForValue().get(pendingKey(email));
+        if (fcmToken != null) {
+            saveToken(userId, fcmToken);
+            tokenRedisTemplate.delete(pendingKey(email));
+        }
+    }
+
+    /**
+     * 이전 형식(아이디/이메일 자체가 키인 String) 토큰을 FCM(아이디): 해시로 옮기고 이전 키 삭제
+     * ACTIVE 회원만 옮기고 탈퇴 회원은 삭제만 함, 키 하나당 한 번만 처리되므로 다시 실행해도 결과가 같음
+     * @param users 아이디, 이메일, ACTIVE 여부
+     * @return 옮긴 토큰 수
+     */
+    public int migrateLegacyTokens(List<LegacyTokenOwner> users) {
+        List<String> keys = new ArrayList<>(users.size() * 2);
+        for (LegacyTokenOwner user : users) {
+            keys.add(user.getId());
+            keys.add(user.getEmail());
+        }
+        // String 이 아닌 키(다른 자료형)는 MGET 에서 null
+        List<String> tokens = tokenRedisTemplate.opsForValue().multiGet(keys);
+        if (tokens == null) {
+            return 0;
+        }
+
+        int migrated = 0;
+        List<String> legacyKeys = new ArrayList<>();
+        for (int i = 0; i < users.size(); i++) {
+            LegacyTokenOwner user = users.get(i);
+            String idToken = tokens.get(i * 2);
+            String emailToken = tokens.get(i * 2 + 1);
+            if (idToken == null && emailToken == null) {
+                continue;
+            }
+            if (user.isActive()) {
+                saveToken(user.getId(), idToken != null ? idToken : emailToken);
+                migrated++;
+            }
+            if (idToken != null) {
+                legacyKeys.add(user.getId());
+            }
+            if (emailToken != null) {
+                legacyKeys.add(user.getEmail());
+            }
+        }
+        if (!legacyKeys.isEmpty()) {
+            tokenRedisTemplate.delete(legacyKeys);
+        }
+        return migrated;
+    }
+
+    private String tokenKey(String userId) {
+        return "FCM(" + userId + "):";
+    }
+
+    private String pendingKey(String email) {
+        return "FCM_PENDING(" + email + "):";
+    }
+
+    private String indexMember(String userId, String fcmToken) {
+        return userId + MEMBER_DELIMITER + fcmToken;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class LegacyTokenOwner {
+        private final String id;
+        private final String email;
+        private final boolean active;
     }
 }
@@ -0,0 +1,65 @@
+package com.spring.familymoments.domain.fcm;
+
+import com.spring.familymoments.domain.fcm.FCMTokenDao.LegacyTokenOwner;
+import com.spring.familymoments.domain.user.UserRepository;
+import com.spring.familymoments.domain.user.entity.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 이전 형식 FCM 토큰 이전 (1회)
+ * 예전에는 아이디(소셜 회원은 이메일)를 키로 토큰 하나를 저장했음 -> 다시 로그인하지 않은 회원도 알림을 받도록
+ * 시작 시 userId 구간(BATCH_SIZE)마다 회원을 조회해서 FCM(아이디): 해시로 옮기고 이전 키는 삭제 (구간마다 별도 트랜잭션)
+ * 끝나면 MIGRATED_KEY 를 남겨서 다음 시작부터는 건너뜀
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LegacyFCMTokenMigration {
+    private static final String MIGRATED_KEY = "FCM:LEGACY_MIGRATED";
+    private static final int BATCH_SIZE = 500;
+
+    private final UserRepository userRepository;
+    private final FCMTokenDao fcmTokenDao;
+    private final StringRedisTemplate tokenRedisTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Async("cleanupExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        if (Boolean.TRUE.equals(tokenRedisTemplate.hasKey(MIGRATED_KEY))) {
+            return;
+        }
+        try {
+            long maxUserId = userRepository.findMaxUserId();
+            int migrated = 0;
+            for (long fromId = 0; fromId < maxUserId; fromId += BATCH_SIZE) {
+                long from = fromId;
+                List<Object[]> rows = transactionTemplate.execute(status ->
+                        userRepository.findIdAndEmailAndStatusByUserIdRange(from, from + BATCH_SIZE));
+                if (rows == null || rows.isEmpty()) {
+                    continue;
+                }
+                List<LegacyTokenOwner> batch = new ArrayList<>(rows.size());
+                for (Object[] row : rows) {
+                    batch.add(new LegacyTokenOwner((String) row[0], (String) row[1], row[2] == User.Status.ACTIVE));
+                }
+                migrated += fcmTokenDao.migrateLegacyTokens(batch);
+            }
+            tokenRedisTemplate.opsForValue().set(MIGRATED_KEY, "1");
+            log.info("Legacy FCM token migration finished - {} tokens.", migrated);
+        } catch (Exception e) {
+            // 실패하면 표시를 남기지 않으므로 다음 시작 때 다시 실행
+            log.error("Legacy FCM token migration failed", e);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.spring.familymoments.domain.fcm;
+
+import com.spring.familymoments.domain.fcm.model.PendingNotification;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 알림 묶음 버퍼
+ * 짧은 시간 안에 같은 사람이 올린 게시글/댓글/좋아요는 "OO님이 게시글 3개를 업로드하였습니다." 하나로 전송
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationBuffer {
+    private final FCMService fcmService;
+
+    private final Map<PendingNotification, Integer> pending = new ConcurrentHashMap<>();
+
+    // merge/remove 는 같은 키에 대해 원자적으로 실행되므로 flush 중에 들어온 이벤트도 누락되지 않음
+    public void add(PendingNotification notification) {
+        pending.merge(notification, 1, Integer::sum);
+    }
+
+    /**
+     * 모인 알림을 한 번에 전송
+     * remove 로 개수를 꺼낸 뒤에 들어온 이벤트는 새 항목으로 쌓여 다음 주기에 전송됨
+     */
+    @Scheduled(fixedDelayString = "${fcm.notification.flush-interval:30000}")
+    public void flush() {
+        for (PendingNotification notification : pending.keySet()) {
+            Integer count = pending.remove(notification);
+            if (count == null) {
+                continue;
+            }
+            fcmService.sendNotificationAsync(
+                    notification.getReceiverId(),
+                    notification.getFamilyName(),
+                    createMessageBody(notification, count)
+            );
+        }
+    }
+
+    private String createMessageBody(PendingNotification notification, int count) {
+        if (count == 1) {
+            return String.format(notification.getTemplate().getTemplate(), notification.getActorNickname());
+        }
+        return String.format(notification.getTemplate().getGroupedTemplate(), notification.getActorNickname(), count);
+    }
+}
@@ -0,0 +1,36 @@
+package com.spring.familymoments.domain.fcm;
+
+import com.spring.familymoments.domain.family.FamilyRepository;
+import com.spring.familymoments.domain.fcm.model.NotificationEvent;
+import com.spring.familymoments.domain.fcm.model.PendingNotification;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationEventListener {
+    private final FamilyRepository familyRepository;
+    private final NotificationBuffer notificationBuffer;
+
+    /**
+     * 커밋이 끝난 이벤트만 처리 (롤백된 게시글/댓글은 알림 X)
+     * 요청 스레드가 아닌 notificationExecutor 에서 수신자 조회 후 버퍼에 적재
+     */
+    @Async("notificationExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleNotificationEvent(NotificationEvent event) {
+        familyRepository.findNotificationReceivers(event.getFamilyId(), event.getActorUserId(), event.getReceiverUserId())
+                .forEach(receiver -> notificationBuffer.add(new PendingNotification(
+                        (String) receiver.get("id"),
+                        (String) receiver.get("familyName"),
+                        event.getActorUserId(),
+                        event.getActorNickname(),
+                        event.getTemplate()
+                )));
+    }
+}
@@ -0,0 +1,130 @@
+package com.spring.familymoments.domain.fcm;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.familymoments.config.ApiLatencyMonitor;
+import com.spring.familymoments.config.BaseException;
+import com.spring.familymoments.domain.fcm.model.UploadaAlramDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static com.spring.familymoments.config.BaseResponseStatus.SERVER_ERROR;
+
+/**
+ * 업로드 알림 분산 전송 큐
+ * 모든 알림을 10시 정각에 보내면 전체 유저가 동시에 피드에 들어오므로
+ * 유저마다 고정된 오프셋(아이디 해시)만큼 늦춰서 window 시간 동안 나눠서 전송
+ *
+ * FCM:REMINDERS: ZSET { 알림(JSON) : 전송 예정 시각(epoch ms) }
+ * FCM:REMINDERS:SENT(초): 그 초에 모든 서버가 꺼낸 알림 수 -> max-per-second 는 서버 전체 기준
+ * Redis 에 두므로 재시작/배포 후에도 남은 알림을 이어서 전송
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReminderDeliveryQueue {
+    private static final String QUEUE_KEY = "FCM:REMINDERS";
+
+    /**
+     * 전송 시각이 된 알림을 이번 초에 남은 양만큼 꺼냄 (조회 + 삭제 + 사용량 기록을 한 번에)
+     * KEYS[1] 큐, KEYS[2] 이번 초 사용량 / ARGV[1] 현재 시각(ms), ARGV[2] 이번 서버가 꺼낼 최대 개수, ARGV[3] 초당 최대 개수
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> POP_SCRIPT = new DefaultRedisScript<>(
+            "local budget = tonumber(ARGV[3]) - tonumber(redis.call('GET', KEYS[2]) or '0') " +
+            "budget = math.min(budget, tonumber(ARGV[2])) " +
+            "if budget <= 0 then return {} end " +
+            "local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, budget) " +
+            "if #due > 0 then " +
+            "  redis.call('ZREM', KEYS[1], unpack(due)) " +
+            "  redis.call('INCRBY', KEYS[2], #due) " +
+            "  redis.call('PEXPIRE', KEYS[2], 2000) " +
+            "end " +
+            "return due",
+            List.class);
+
+    private final ApiLatencyMonitor apiLatencyMonitor;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${fcm.reminder.window-minutes:120}")
+    private long windowMinutes;
+    @Value("${fcm.reminder.max-per-second:50}")
+    private int maxPerSecond;
+    @Value("${fcm.reminder.latency-threshold-ms:500}")
+    private long latencyThresholdMillis;
+
+    /**
+     * 알림별 전송 시각 = 시작 시각 + 유저 아이디로 계산한 오프셋
+     * 같은 유저는 매일 같은 시각쯤 알림을 받음
+     * 여러 서버가 같은 알림을 등록해도 먼저 등록된 것만 남음 (ZADD NX)
+     */
+    public void schedule(List<UploadaAlramDto> reminders) {
+        if (reminders.isEmpty()) {
+            return;
+        }
+        long windowStart = System.currentTimeMillis();
+        long windowMillis = Math.max(1, TimeUnit.MINUTES.toMillis(windowMinutes));
+
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        for (UploadaAlramDto reminder : reminders) {
+            long offset = Math.floorMod((long) reminder.getId().hashCode(), windowMillis);
+            tuples.add(new DefaultTypedTuple<>(write(reminder), (double) (windowStart + offset)));
+        }
+        redisTemplate.opsForZSet().addIfAbsent(QUEUE_KEY, tuples);
+        // 전송되지 못한 알림이 계속 쌓이지 않도록
+        redisTemplate.expire(QUEUE_KEY, windowMillis + TimeUnit.DAYS.toMillis(1), TimeUnit.MILLISECONDS);
+        log.info("{} upload alarms scheduled over {} minutes.", reminders.size(), windowMinutes);
+    }
+
+    /**
+     * 전송 시각이 된 알림을 1초 분량만큼 꺼냄
+     * API 평균 응답 시간이 기준을 넘으면 그 비율만큼 꺼내는 양을 줄임 (남은 알림은 다음 주기로 밀림)
+     */
+    public List<UploadaAlramDto> pollReleasable() {
+        int permits = maxPerSecond;
+        long latency = apiLatencyMonitor.getAverageLatencyMillis();
+        if (latency > latencyThresholdMillis) {
+            permits = (int) Math.max(1, maxPerSecond * latencyThresholdMillis / latency);
+        }
+
+        long now = System.currentTimeMillis();
+        String sentKey = QUEUE_KEY + ":SENT(" + TimeUnit.MILLISECONDS.toSeconds(now) + ")";
+        List<?> due = redisTemplate.execute(POP_SCRIPT, List.of(QUEUE_KEY, sentKey),
+                String.valueOf(now), String.valueOf(permits), String.valueOf(maxPerSecond));
+
+        List<UploadaAlramDto> releasable = new ArrayList<>();
+        if (due == null) {
+            return releasable;
+        }
+        for (Object json : due) {
+            try {
+                releasable.add(objectMapper.readValue((String) json, UploadaAlramDto.class));
+            } catch (JsonProcessingException e) {
+                log.error("Failed to read scheduled upload alarm: {}", json, e);
+            }
+        }
+        return releasable;
+    }
+
+    private String write(UploadaAlramDto reminder) {
+        try {
+            return objectMapper.writeValueAsString(reminder);
+        } catch (JsonProcessingException e) {
+            throw new BaseException(SERVER_ERROR);
+        }
+    }
+}
@@ -1,17 +1,35 @@
 package com.spring.familymoments.domain.fcm.model;
 
 public enum MessageTemplate {
-    UPLOAD_ALARM("%s님! '%s' 가족에 사진을 업로드하는 날이에요~"),
-    NEW_POSTING("%s님이 게시글을 업로드하였습니다. 지금 바로 확인하세요."),
+    UPLOAD_ALARM("%s님! '%s' 가족에 사진을 업로드하는 날이에요~",
+            "%s님! '%s' 가족 외 %d개 가족에 사진을 업로드하는 날이에요~"),
+    NEW_POSTING("%s님이 게시글을 업로드하였습니다. 지금 바로 확인하세요.",
+            "%s님이 게시글 %d개를 업로드하였습니다. 지금 바로 확인하세요."),
+    NEW_COMMENT("%s님이 게시글에 댓글을 남겼습니다.",
+            "%s님이 게시글에 댓글 %d개를 남겼습니다."),
+    NEW_POST_LOVE("%s님이 게시글을 좋아합니다.",
+            "%s님이 게시글 %d개를 좋아합니다."),
+    NEW_COMMENT_LOVE("%s님이 댓글을 좋아합니다.",
+            "%s님이 댓글 %d개를 좋아합니다."),
     NEW_MESSAGE("%s님! 새로운 메시지가 도착했습니다.");
 
     private final String template;
+    private final String groupedTemplate;   // 같은 사람의 연속된 이벤트를 묶어서 보낼 때 사용
 
     MessageTemplate(String template) {
+        this(template, template);
+    }
+
+    MessageTemplate(String template, String groupedTemplate) {
         this.template = template;
+        this.groupedTemplate = groupedTemplate;
     }
 
     public String getTemplate() {
         return template;
     }
+
+    public String getGroupedTemplate() {
+        return groupedTemplate;
+    }
 }
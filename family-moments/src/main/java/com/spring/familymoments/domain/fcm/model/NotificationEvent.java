@@ -0,0 +1,35 @@
+package com.spring.familymoments.domain.fcm.model;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글/댓글/좋아요 생성 시 발행되는 알림 이벤트
+ * receiverUserId 가 null 이면 가족 전체(행위자 제외)에게 전송
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class NotificationEvent {
+    private MessageTemplate template;
+    private Long familyId;
+    private Long actorUserId;
+    private String actorNickname;
+    private Long receiverUserId;
+
+    public static NotificationEvent ofPost(Long familyId, Long actorUserId, String actorNickname) {
+        return new NotificationEvent(MessageTemplate.NEW_POSTING, familyId, actorUserId, actorNickname, null);
+    }
+
+    public static NotificationEvent ofComment(Long familyId, Long actorUserId, String actorNickname, Long receiverUserId) {
+        return new NotificationEvent(MessageTemplate.NEW_COMMENT, familyId, actorUserId, actorNickname, receiverUserId);
+    }
+
+    public static NotificationEvent ofPostLove(Long familyId, Long actorUserId, String actorNickname, Long receiverUserId) {
+        return new NotificationEvent(MessageTemplate.NEW_POST_LOVE, familyId, actorUserId, actorNickname, receiverUserId);
+    }
+
+    public static NotificationEvent ofCommentLove(Long familyId, Long actorUserId, String actorNickname, Long receiverUserId) {
+        return new NotificationEvent(MessageTemplate.NEW_COMMENT_LOVE, familyId, actorUserId, actorNickname, receiverUserId);
+    }
+}
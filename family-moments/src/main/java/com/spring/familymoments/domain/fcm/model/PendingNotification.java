@@ -0,0 +1,22 @@
+package com.spring.familymoments.domain.fcm.model;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * 전송 대기 중인 알림의 묶음 키
+ * (수신자, 가족, 행위자 userId, 알림 종류)가 같은 이벤트는 하나의 알림으로 합쳐서 전송
+ * 닉네임은 같은 사람이 여러 명일 수 있으므로 묶음 키에서 제외 (표시용)
+ */
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+public class PendingNotification {
+    private String receiverId;
+    private String familyName;
+    private Long actorUserId;
+    @EqualsAndHashCode.Exclude
+    private String actorNickname;
+    private MessageTemplate template;
+}
@@ -5,6 +5,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @Builder
 @Getter
 @AllArgsConstructor
@@ -12,6 +14,6 @@ import lombok.NoArgsConstructor;
 public class UploadaAlramDto {
     private String id;
     private String nickname;
-    private String familyName;
+    private List<String> familyNames;   // 업로드 주기가 된 가족 목록 (유저당 알림 1개로 묶음)
     private MessageTemplate template;
 }
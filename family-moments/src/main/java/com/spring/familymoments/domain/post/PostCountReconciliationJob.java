@@ -0,0 +1,87 @@
+package com.spring.familymoments.domain.post;
+
+import com.spring.familymoments.domain.common.UserFamilyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 가족-유저 매핑의 업로드 수(postCount) 보정 작업
+ * 게시글 작성/삭제/신고 시 +-1 로 관리하므로 일괄 처리(가족 탈퇴, 회원 탈퇴 등)나 실패로 생긴 차이를
+ * mappingId 구간(chunk-size)마다 실제 ACTIVE 게시글 수로 다시 계산 (구간마다 별도 트랜잭션)
+ * 기존 매핑은 postCount 가 0 으로 시작하므로 시작 시 한 번 채우고 BACKFILLED_KEY 를 남김 (그 전까지 프로필은 COUNT 로 조회)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCountReconciliationJob {
+    private static final String BACKFILLED_KEY = "POST_COUNT:BACKFILLED";
+
+    private final UserFamilyRepository userFamilyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final StringRedisTemplate redisTemplate;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile boolean backfilled;
+
+    @Value("${post.count-reconciliation.chunk-size:1000}")
+    private int chunkSize;
+
+    /**
+     * postCount 를 읽어도 되는지 (다른 서버가 채운 경우도 포함)
+     */
+    public boolean isBackfilled() {
+        if (!backfilled && Boolean.TRUE.equals(redisTemplate.hasKey(BACKFILLED_KEY))) {
+            backfilled = true;
+        }
+        return backfilled;
+    }
+
+    /**
+     * 시작 시 아직 채우지 않았으면 한 번 실행
+     */
+    @Async("cleanupExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (!isBackfilled()) {
+            reconcile();
+        }
+    }
+
+    /**
+     * 매일 새벽 5시
+     */
+    @Scheduled(cron = "${post.count-reconciliation.cron:0 0 5 * * *}")
+    public void reconcile() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long maxMappingId = userFamilyRepository.findMaxMappingId();
+            int total = 0;
+            for (long fromId = 0; fromId < maxMappingId; fromId += chunkSize) {
+                long from = fromId;
+                Integer updated = transactionTemplate.execute(status ->
+                        userFamilyRepository.reconcilePostCounts(from, from + chunkSize));
+                total += updated == null ? 0 : updated;
+            }
+            // 끝까지 돌았을 때만 표시 (실패하면 다음 시작/주기 작업에서 다시)
+            redisTemplate.opsForValue().set(BACKFILLED_KEY, "1");
+            backfilled = true;
+            log.info("Post count reconciliation finished - {} mappings.", total);
+        } catch (Exception e) {
+            log.error("Post count reconciliation stopped", e);
+        } finally {
+            running.set(false);
+        }
+    }
+}
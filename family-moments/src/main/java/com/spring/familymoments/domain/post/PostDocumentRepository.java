@@ -7,6 +7,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface PostDocumentRepository extends MongoRepository<PostDocument, ObjectId> {
@@ -17,4 +19,7 @@ public interface PostDocumentRepository extends MongoRepository<PostDocument, Ob
     @Query("SELECT pd FROM PostDocument pd WHERE pd.entityId = :postId")
     Optional<PostDocument> findPostDocumentByEntityId(@Param("entityId") Long postId);
 
+    // 여러 게시글의 document 한 번에 조회
+    List<PostDocument> findByEntityIdIn(Collection<Long> entityIds);
+
 }
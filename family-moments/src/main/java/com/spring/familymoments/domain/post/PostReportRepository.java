@@ -3,9 +3,18 @@ package com.spring.familymoments.domain.post;
 import com.spring.familymoments.domain.post.entity.PostReport;
 import com.spring.familymoments.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface PostReportRepository extends JpaRepository<PostReport, Long> {
     List<PostReport> findPostReportByUser(User user);
+
+    // 회원 탈퇴 시 유저가 신고한 게시글 신고 내역의 신고자를 limit 개씩 일괄 null 처리
+    @Modifying
+    @Query(value = "UPDATE PostReport SET userId = NULL, updatedAt = NOW() " +
+            "WHERE userId = :userId LIMIT :limit", nativeQuery = true)
+    int clearReporterByUserId(@Param("userId") Long userId, @Param("limit") int limit);
 }
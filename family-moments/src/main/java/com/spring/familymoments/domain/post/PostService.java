@@ -3,8 +3,13 @@ package com.spring.familymoments.domain.post;
 import com.spring.familymoments.config.BaseException;
 import com.spring.familymoments.domain.awsS3.AwsS3Service;
 import com.spring.familymoments.domain.common.BaseEntity;
+import com.spring.familymoments.domain.common.UserFamilyRepository;
+import com.spring.familymoments.domain.family.FamilyMembershipCache;
 import com.spring.familymoments.domain.family.FamilyRepository;
 import com.spring.familymoments.domain.family.entity.Family;
+import com.spring.familymoments.domain.family.model.FamilyHomeEvent;
+import com.spring.familymoments.domain.family.model.FamilyHomeSnapshot;
+import com.spring.familymoments.domain.fcm.model.NotificationEvent;
 import com.spring.familymoments.domain.post.document.PostDocument;
 import com.spring.familymoments.domain.post.entity.Post;
 import com.spring.familymoments.domain.post.entity.PostReport;
@@ -14,6 +19,7 @@ import com.spring.familymoments.domain.postLove.PostLoveService;
 import com.spring.familymoments.domain.user.entity.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -36,21 +42,28 @@ public class PostService {
     private final PostDocumentRepository postDocumentRepository;
     private final PostLoveService postLoveService;
     private final FamilyRepository familyRepository;
+    private final FamilyMembershipCache familyMembershipCache;
+    private final UserFamilyRepository userFamilyRepository;
     private final AwsS3Service awsS3Service;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final int POST_PAGES = 10;
     private static final int ALBUM_PAGES = 30;
 
     @Transactional
     public SinglePostRes createPost(User user, PostReq postReq) {
+        // 가족의 구성원이 아닌 경우, val (FamilyMembershipCache 로 DB 조회 없이 확인)
+        if(!familyMembershipCache.get(user.getUserId()).isMember(postReq.getFamilyId())) {
+            // 없는 가족이면 기존과 같이 FIND_FAIL_FAMILY
+            if(!familyRepository.existsById(postReq.getFamilyId()))
+                throw new BaseException(FIND_FAIL_FAMILY);
+            throw new BaseException(minnie_FAMILY_INVALID_USER);
+        }
+
         // familyID 유효성 검사
         Family family = familyRepository.findById(postReq.getFamilyId())
                 .orElseThrow(() -> new BaseException(FIND_FAIL_FAMILY));
 
-        // 가족의 구성원이 아닌 경우, val
-        if(!familyRepository.isFamilyMember(family, user))
-            throw new BaseException(minnie_FAMILY_INVALID_USER);
-
 
         // image 업로드
         List<String> urls = awsS3Service.uploadImages(postReq.getImgs());
@@ -71,6 +84,13 @@ public class PostService {
 
         // '최근 게시물 업로드 시각' 현재 시각으로 업데이트
         family.updateLatestUploadAt();
+        // 프로필 업로드 수 + 1
+        userFamilyRepository.increasePostCount(user.getUserId(), family.getFamilyId());
+
+        // 가족 구성원에게 새 게시글 알림 (커밋 후 비동기 전송)
+        eventPublisher.publishEvent(NotificationEvent.ofPost(family.getFamilyId(), user.getUserId(), user.getNickname()));
+        // 가족 홈 스냅샷의 게시글 요약 갱신
+        eventPublisher.publishEvent(new FamilyHomeEvent(family.getFamilyId(), FamilyHomeSnapshot.Section.POSTS));
 
         // PostDocument builder 생성
         PostDocument docParams = PostDocument.builder()
@@ -152,6 +172,7 @@ public class PostService {
             postDocument.updateUrls(editedImgs);
             postDocumentRepository.save(postDocument);
         });
+        eventPublisher.publishEvent(new FamilyHomeEvent(editedPost.getFamilyId().getFamilyId(), FamilyHomeSnapshot.Section.POSTS));
 
         boolean isLoved = postLoveService.checkPostLoveByUser(editedPost.getPostId(), editedPost.getWriter().getUserId());
         boolean isWritten = editedPost.isWriter(user);
@@ -191,6 +212,8 @@ public class PostService {
 
         deletedPost.delete();
         postDocumentRepository.delete(deletedPostDocument);
+        userFamilyRepository.decreasePostCount(user.getUserId(), deletedPost.getFamilyId().getFamilyId());
+        eventPublisher.publishEvent(new FamilyHomeEvent(deletedPost.getFamilyId().getFamilyId(), FamilyHomeSnapshot.Section.POSTS));
     }
 
     // 현재 가족의 모든 게시물 중 최근 10개를 조회
@@ -503,7 +526,11 @@ public class PostService {
 
        //누적 횟수 3회차, INACTIVE
        if(post.getReported() == 2) {
+           if(post.getStatus() == BaseEntity.Status.ACTIVE && post.getWriter() != null) {
+               userFamilyRepository.decreasePostCount(post.getWriter().getUserId(), post.getFamilyId().getFamilyId());
+           }
            post.updateStatus(BaseEntity.Status.INACTIVE);
+           eventPublisher.publishEvent(new FamilyHomeEvent(post.getFamilyId().getFamilyId(), FamilyHomeSnapshot.Section.POSTS));
        }
 
        //신고 사유 저장
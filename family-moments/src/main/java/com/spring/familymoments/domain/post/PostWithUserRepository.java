@@ -10,6 +10,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface PostWithUserRepository extends JpaRepository<Post, Long> {
@@ -23,4 +24,27 @@ public interface PostWithUserRepository extends JpaRepository<Post, Long> {
 
     // 가족 내에 속한 모든 게시글 조회
     List<Post> findByFamilyId(Family family);
+
+    // 가족 삭제 시 가족 내 ACTIVE 게시글을 limit 개씩 일괄 삭제 (처리한 행 수 반환)
+    @Modifying
+    @Query(value = "UPDATE Post SET status = 'INACTIVE', updatedAt = NOW() " +
+            "WHERE familyId = :familyId AND status = 'ACTIVE' " +
+            "LIMIT :limit", nativeQuery = true)
+    int deactivatePostsByFamilyId(@Param("familyId") Long familyId, @Param("limit") int limit);
+
+    // 회원 탈퇴 시 유저의 게시글을 limit 개씩 일괄 INACTIVE
+    @Modifying
+    @Query(value = "UPDATE Post SET status = 'INACTIVE', updatedAt = NOW() " +
+            "WHERE `user` = :userId AND status = 'ACTIVE' LIMIT :limit", nativeQuery = true)
+    int deactivatePostsByUserId(@Param("userId") Long userId, @Param("limit") int limit);
+
+    // 가족 탈퇴 시 해당 가족에서 탈퇴 유저들이 작성한 ACTIVE 게시글 일괄 INACTIVE
+    @Modifying
+    @Query(value = "UPDATE Post SET status = 'INACTIVE', updatedAt = NOW() " +
+            "WHERE familyId = :familyId AND `user` IN (:userIds) AND status = 'ACTIVE'", nativeQuery = true)
+    int deactivatePostsByFamilyIdAndUserIds(@Param("familyId") Long familyId, @Param("userIds") Collection<Long> userIds);
+
+    // 가족의 ACTIVE 게시글 수 (가족 홈 스냅샷)
+    @Query("SELECT count(p) FROM Post p WHERE p.familyId.familyId = :familyId AND p.status = 'ACTIVE'")
+    long countActivePostsByFamilyId(@Param("familyId") Long familyId);
 }
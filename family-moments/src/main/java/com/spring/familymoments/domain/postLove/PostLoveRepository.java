@@ -5,6 +5,7 @@ import com.spring.familymoments.domain.postLove.entity.PostLove;
 import com.spring.familymoments.domain.postLove.model.PostLoveRes;
 import com.spring.familymoments.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -30,4 +31,10 @@ public interface PostLoveRepository extends JpaRepository<PostLove, Long> {
     List<PostLove> findPostLovesByUserId(@Param("userId") Long userId);
     @Query("SELECT pl FROM PostLove pl WHERE pl.postId IN (SELECT p FROM Post p WHERE p.writer.userId = :userId)")
     List<PostLove> findPostLovesByPostUserId(Long userId);
+
+    // 회원 탈퇴 시 유저의 게시글 좋아요를 limit 개씩 일괄 INACTIVE
+    @Modifying
+    @Query(value = "UPDATE PostLove SET status = 'INACTIVE', updatedAt = NOW() " +
+            "WHERE userId = :userId AND status = 'ACTIVE' LIMIT :limit", nativeQuery = true)
+    int deactivatePostLovesByUserId(@Param("userId") Long userId, @Param("limit") int limit);
 }
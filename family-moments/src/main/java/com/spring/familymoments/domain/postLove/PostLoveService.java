@@ -2,6 +2,7 @@ package com.spring.familymoments.domain.postLove;
 
 import com.spring.familymoments.config.BaseException;
 import com.spring.familymoments.domain.common.BaseEntity;
+import com.spring.familymoments.domain.fcm.model.NotificationEvent;
 import com.spring.familymoments.domain.post.PostRepository;
 import com.spring.familymoments.domain.post.PostWithLoveRepository;
 import com.spring.familymoments.domain.post.entity.Post;
@@ -12,6 +13,7 @@ import com.spring.familymoments.domain.user.UserRepository;
 import com.spring.familymoments.domain.user.entity.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,6 +30,7 @@ public class PostLoveService {
     private final UserRepository userRepository;
     private final PostWithLoveRepository postWithLoveRepository;
     private final PostRepository postRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * checkUserPostLove
@@ -70,6 +73,10 @@ public class PostLoveService {
 
         post.increaseCountLove();
         postLoveRepository.save(postLove);
+
+        // 게시글 작성자에게 좋아요 알림 (커밋 후 비동기 전송)
+        eventPublisher.publishEvent(NotificationEvent.ofPostLove(
+                post.getFamilyId().getFamilyId(), member.getUserId(), member.getNickname(), post.getWriter().getUserId()));
     }
 
     /**
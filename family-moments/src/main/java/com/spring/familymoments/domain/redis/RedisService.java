@@ -1,17 +1,28 @@
 package com.spring.familymoments.domain.redis;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class RedisService {
     private final RedisTemplate<String, String> redisTemplate;
+    private final ReactiveStringRedisTemplate reactiveRedisTemplate;
     public void setValues(String key, String value) {
         redisTemplate.opsForValue().set(key, value);
     }
@@ -28,4 +39,52 @@ public class RedisService {
     public boolean hasKey(String key) {
         return Boolean.TRUE.equals(redisTemplate.hasKey(key));
     }
+
+    /**
+     * 여러 키를 한 번에 처리 (요청 1번)
+     */
+    public List<String> multiGetValues(Collection<String> keys) { // 없는 키는 null, 순서는 keys 순서
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+        return values != null ? values : new ArrayList<>();
+    }
+    @Transactional
+    public void multiSetValuesWithTimeout(Map<String, String> values, long timeout) { // MSET 은 TTL 을 지원하지 않으므로 SET PX 를 파이프라인으로 전송
+        executePipelined(operations -> values.forEach((key, value) ->
+                operations.opsForValue().set(key, value, timeout, TimeUnit.MILLISECONDS)));
+    }
+    public long deleteValues(Collection<String> keys) {
+        Long deleted = redisTemplate.delete(keys);
+        return deleted != null ? deleted : 0;
+    }
+
+    /**
+     * 여러 명령을 파이프라인으로 묶어서 전송
+     * commands 안에서는 결과를 바로 사용할 수 없음 (모두 null), 결과는 명령 순서대로 반환
+     */
+    @SuppressWarnings("unchecked")
+    public List<Object> executePipelined(Consumer<RedisOperations<String, String>> commands) {
+        return redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                commands.accept((RedisOperations<String, String>) operations);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 비동기 (reactive driver) - 요청 스레드를 막지 않아야 하는 곳에서 사용
+     */
+    public Mono<String> getValuesAsync(String key) {
+        return reactiveRedisTemplate.opsForValue().get(key);
+    }
+    public Mono<List<String>> multiGetValuesAsync(Collection<String> keys) {
+        return reactiveRedisTemplate.opsForValue().multiGet(keys);
+    }
+    public Mono<Boolean> setValuesWithTimeoutAsync(String key, String value, long timeout) {
+        return reactiveRedisTemplate.opsForValue().set(key, value, Duration.ofMillis(timeout));
+    }
+    public Mono<Long> deleteValuesAsync(String... keys) {
+        return reactiveRedisTemplate.delete(keys);
+    }
 }
@@ -1,8 +1,14 @@
 package com.spring.familymoments.domain.socialInfo;
 
+import com.spring.familymoments.config.BaseException;
 import com.spring.familymoments.domain.socialInfo.feign.google.GoogleAuthApi;
 import com.spring.familymoments.domain.socialInfo.feign.google.GoogleUserApi;
 import com.spring.familymoments.domain.socialInfo.model.*;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -10,6 +16,12 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
+import java.security.Key;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.spring.familymoments.config.BaseResponseStatus.INVALID_SOCIAL_TOKEN;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -17,6 +29,9 @@ import org.springframework.stereotype.Service;
 public class GoogleLoginServiceImpl implements SocialLoginService {
     private final GoogleAuthApi googleAuthApi;
     private final GoogleUserApi googleUserApi;
+    private final GoogleSigningKeys googleSigningKeys;
+
+    private static final List<String> GOOGLE_ISSUERS = Arrays.asList("accounts.google.com", "https://accounts.google.com");
 
     @Value("${spring.security.oauth2.client.registration.google.client-id}")
     private String googleAppKey;
@@ -49,8 +64,16 @@ public class GoogleLoginServiceImpl implements SocialLoginService {
         return response.getBody();
     }
 
+    /**
+     * ID Token(JWT)이면 캐시된 구글 공개키로 직접 검증 (외부 호출 없음)
+     * 그 외(access token)는 userinfo API 호출
+     */
     @Override
     public SocialUserResponse getUserInfo(String accessToken) {
+        if (isIdToken(accessToken)) {
+            return verifyIdToken(accessToken);
+        }
+
         ResponseEntity<GoogleLoginResponse> response = googleUserApi.getUserInfo(accessToken);
         log.info("google user response {}", response.toString());
 
@@ -63,6 +86,45 @@ public class GoogleLoginServiceImpl implements SocialLoginService {
                 .build();
     }
 
+    private boolean isIdToken(String token) {
+        return token.chars().filter(c -> c == '.').count() == 2;
+    }
+
+    private SocialUserResponse verifyIdToken(String idToken) {
+        Claims claims;
+        try {
+            claims = Jwts.parserBuilder()
+                    .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                        @Override
+                        public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                            return googleSigningKeys.getKey(header.getKeyId());
+                        }
+                    })
+                    .requireAudience(googleAppKey)
+                    .build()
+                    .parseClaimsJws(idToken)
+                    .getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            log.info("invalid google id token: {}", e.getMessage());
+            throw new BaseException(INVALID_SOCIAL_TOKEN);
+        }
+        if (!GOOGLE_ISSUERS.contains(claims.getIssuer())) {
+            throw new BaseException(INVALID_SOCIAL_TOKEN);
+        }
+        // 이메일로 계정을 연결/생성하므로 구글이 확인한 이메일만 허용 (boolean 또는 "true" 문자열)
+        Object emailVerified = claims.get("email_verified");
+        if (!Boolean.TRUE.equals(emailVerified) && !"true".equals(emailVerified)) {
+            log.info("google id token with unverified email");
+            throw new BaseException(INVALID_SOCIAL_TOKEN);
+        }
+
+        return SocialUserResponse.builder()
+                .name(claims.get("name", String.class))
+                .picture(claims.get("picture", String.class))
+                .email(claims.get("email", String.class))
+                .build();
+    }
+
     public String unlink(GoogleDeleteDto googleDeleteDto) {
         ResponseEntity<String> response = googleAuthApi.unlink(googleDeleteDto);
         log.info("google unlink response {}", response);
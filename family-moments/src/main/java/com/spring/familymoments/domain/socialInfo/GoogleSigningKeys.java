@@ -0,0 +1,77 @@
+package com.spring.familymoments.domain.socialInfo;
+
+import com.spring.familymoments.domain.socialInfo.feign.google.GoogleUserApi;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 구글 ID Token 서명 검증용 공개키 (JWKS) 캐시
+ * 주기적으로 백그라운드에서 갱신, 모르는 kid 가 오면 (키 교체 직후) 최소 간격을 두고 즉시 갱신
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GoogleSigningKeys {
+    private static final long MIN_REFRESH_INTERVAL_MILLIS = 60_000;
+
+    private final GoogleUserApi googleUserApi;
+
+    private volatile Map<String, PublicKey> keys = Collections.emptyMap();
+    private volatile long lastRefreshedAt = 0;
+
+    public PublicKey getKey(String keyId) {
+        PublicKey key = keys.get(keyId);
+        if (key == null && System.currentTimeMillis() - lastRefreshedAt > MIN_REFRESH_INTERVAL_MILLIS) {
+            refresh();
+            key = keys.get(keyId);
+        }
+        return key;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refresh();
+    }
+
+    @Scheduled(initialDelayString = "${google.jwks.refresh-interval:3600000}",
+            fixedDelayString = "${google.jwks.refresh-interval:3600000}")
+    public synchronized void refresh() {
+        lastRefreshedAt = System.currentTimeMillis();
+        try {
+            Map<String, Object> jwks = googleUserApi.getSigningKeys().getBody();
+            Map<String, PublicKey> refreshed = new HashMap<>();
+            for (Object jwk : (List<?>) jwks.get("keys")) {
+                Map<?, ?> key = (Map<?, ?>) jwk;
+                if ("RSA".equals(key.get("kty"))) {
+                    refreshed.put((String) key.get("kid"), toPublicKey((String) key.get("n"), (String) key.get("e")));
+                }
+            }
+            keys = Collections.unmodifiableMap(refreshed);
+        } catch (Exception e) {
+            // 갱신에 실패하면 기존 키로 계속 검증
+            log.error("Failed to refresh google signing keys", e);
+        }
+    }
+
+    private PublicKey toPublicKey(String modulus, String exponent) throws Exception {
+        Base64.Decoder decoder = Base64.getUrlDecoder();
+        RSAPublicKeySpec spec = new RSAPublicKeySpec(
+                new BigInteger(1, decoder.decode(modulus)),
+                new BigInteger(1, decoder.decode(exponent)));
+        return KeyFactory.getInstance("RSA").generatePublic(spec);
+    }
+}
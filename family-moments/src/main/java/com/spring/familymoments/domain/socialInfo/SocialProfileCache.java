@@ -0,0 +1,56 @@
+package com.spring.familymoments.domain.socialInfo;
+
+import com.spring.familymoments.domain.socialInfo.model.SocialUserResponse;
+import com.spring.familymoments.utils.SHA256;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 소셜 프로필 조회 결과 캐시
+ * (소셜 종류 + 토큰) 해시 -> 프로필. 같은 토큰으로 다시 로그인하면 소셜 서버를 호출하지 않음
+ * 토큰 원문은 저장하지 않음
+ */
+@Component
+public class SocialProfileCache {
+    @Value("${social.profile-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+    @Value("${social.profile-cache.max-size:10000}")
+    private int maxSize;
+
+    private final Map<String, CachedProfile> cache = Collections.synchronizedMap(
+            new LinkedHashMap<String, CachedProfile>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedProfile> eldest) {
+                    return size() > maxSize;
+                }
+            });
+
+    public SocialUserResponse get(UserType userType, String socialToken, Supplier<SocialUserResponse> loader) {
+        String key = SHA256.encrypt(userType.name() + ":" + socialToken);
+        CachedProfile cachedProfile = cache.get(key);
+        if (cachedProfile != null && cachedProfile.getExpiresAt() > System.currentTimeMillis()) {
+            return cachedProfile.getProfile();
+        }
+
+        SocialUserResponse profile = loader.get();
+        if (profile != null) {
+            cache.put(key, new CachedProfile(profile, System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(ttlSeconds)));
+        }
+        return profile;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class CachedProfile {
+        private SocialUserResponse profile;
+        private long expiresAt;   // 캐시 만료 시각(epoch ms)
+    }
+}
@@ -3,6 +3,7 @@ package com.spring.familymoments.domain.socialInfo;
 import com.spring.familymoments.domain.socialInfo.entity.SocialInfo;
 import com.spring.familymoments.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -18,4 +19,10 @@ public interface SocialUserRepository extends JpaRepository<SocialInfo, Long> {
 
     @Query("SELECT si FROM SocialInfo si WHERE si.user = :user AND si.status = 'ACTIVE' ")
     List<SocialInfo> findSocialInfoByUser(User user);
+
+    // 회원 탈퇴 시 유저의 소셜 정보를 limit 개씩 일괄 INACTIVE
+    @Modifying
+    @Query(value = "UPDATE SocialInfo SET status = 'INACTIVE', updatedAt = NOW() " +
+            "WHERE `user` = :userId AND status = 'ACTIVE' LIMIT :limit", nativeQuery = true)
+    int deactivateSocialInfosByUserId(@Param("userId") Long userId, @Param("limit") int limit);
 }
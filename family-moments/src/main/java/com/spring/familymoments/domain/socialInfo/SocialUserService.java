@@ -8,6 +8,8 @@ import com.spring.familymoments.domain.fcm.FCMService;
 import com.spring.familymoments.domain.socialInfo.entity.SocialInfo;
 import com.spring.familymoments.domain.socialInfo.model.*;
 import com.spring.familymoments.domain.user.AuthService;
+import com.spring.familymoments.domain.user.PasswordHashingService;
+import com.spring.familymoments.domain.user.UserAvailabilityFilter;
 import com.spring.familymoments.domain.user.UserDetailsService;
 import com.spring.familymoments.domain.user.UserRepository;
 import com.spring.familymoments.domain.user.UserService;
@@ -15,6 +17,7 @@ import com.spring.familymoments.domain.user.entity.User;
 import com.spring.familymoments.domain.user.model.PostLoginRes;
 import com.spring.familymoments.utils.UuidUtils;
 import feign.FeignException;
+import feign.RetryableException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -24,7 +27,6 @@ import org.springframework.security.config.annotation.authentication.builders.Au
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -54,7 +56,9 @@ public class SocialUserService {
     private final AwsS3Service awsS3Service;
     private final FCMService fcmService;
     private final String SERVER = "Server";
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final UserAvailabilityFilter userAvailabilityFilter;
+    private final SocialProfileCache socialProfileCache;
     @Value("${spring.security.oauth2.client.info.password}")
     private String password;
 
@@ -88,7 +92,8 @@ public class SocialUserService {
             //social-token으로 email 받아오기 (이메일 필수로 설정 -> 안드에서 세팅)
             SocialLoginService loginService = getLoginService(enumUserType);
             //소셜 회원의 유저 정보 받아오기
-            SocialUserResponse socialUserResponse = loginService.getUserInfo(socialToken);
+            SocialUserResponse socialUserResponse = socialProfileCache.get(enumUserType, socialToken,
+                    () -> loginService.getUserInfo(socialToken));
             //기존회원여부
             Optional<User> existedU = socialUserRepository.findUserByEmailAndUserType(socialUserResponse.getEmail(), enumUserType);
 
@@ -118,11 +123,15 @@ public class SocialUserService {
                 }
             }
 
-            // FCM Token 저장
+            // FCM Token 저장 (기존 회원은 아이디로, 신규 회원은 가입 완료 시 아이디로 옮기기 위해 이메일로 임시 저장)
             if (fcmToken == null || fcmToken.isEmpty()) {
                 throw new BaseException(FIND_FAIL_FCMTOKEN);
             }
-            fcmService.saveToken(socialUserResponse.getEmail(), fcmToken);
+            if (isExisted) {
+                fcmService.saveToken(existedU.get().getId(), fcmToken);
+            } else {
+                fcmService.savePendingToken(socialUserResponse.getEmail(), fcmToken);
+            }
 
             return SocialLoginDto.of(
                     isExisted,
@@ -135,7 +144,13 @@ public class SocialUserService {
                     familyId
             );
 
+        } catch (RetryableException e) {
+            //연결 실패/타임아웃 -> 토큰 문제가 아님
+            throw new BaseException(SOCIAL_SERVER_UNAVAILABLE);
         } catch (FeignException e) {
+            if (e.status() >= 500) {
+                throw new BaseException(SOCIAL_SERVER_UNAVAILABLE);
+            }
             throw new BaseException(INVALID_SOCIAL_TOKEN);
         }
     }
@@ -194,6 +209,9 @@ public class SocialUserService {
         User user = userRepository.findUserByUserId(userId)
                 .orElseThrow(() -> new BaseException(FIND_FAIL_USER_ID));
 
+        //소셜 로그인 때 임시 저장한 FCM Token 을 아이디로 등록
+        fcmService.bindPendingToken(email, user.getId());
+
         //AT, RT token
         TokenDto tokenDto = setAuthenticationInSocial(user);
         //familyId
@@ -223,7 +241,7 @@ public class SocialUserService {
                 User.builder()
                         .id(userJoinRequest.getId())
                         .email(userJoinRequest.getEmail())
-                        .password(passwordEncoder.encode(password))
+                        .password(passwordHashingService.encode(password))
                         .uuid(uuid)
                         .name(userJoinRequest.getName())
                         .nickname(userJoinRequest.getNickname())
@@ -238,6 +256,7 @@ public class SocialUserService {
                         .user(user)
                         .build()
         );
+        userAvailabilityFilter.register(user.getId(), user.getEmail());
 
         return socialInfo.getUser().getUserId();
     }
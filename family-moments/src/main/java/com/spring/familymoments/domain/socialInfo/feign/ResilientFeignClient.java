@@ -0,0 +1,47 @@
+package com.spring.familymoments.domain.socialInfo.feign;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * 소셜 로그인 Feign 클라이언트
+ * 실제 HTTP 호출(delegate) 앞뒤로 provider 별 SocialProviderGuard 적용, 타임아웃은 항상 options 사용
+ */
+public class ResilientFeignClient implements Client, Closeable {
+    private final Client delegate;
+    private final SocialProviderGuard guard;
+    private final Request.Options options;
+    private final Closeable resource;       // 종료 시 닫을 HTTP 클라이언트 (없으면 null)
+
+    public ResilientFeignClient(Client delegate, SocialProviderGuard guard, Request.Options options, Closeable resource) {
+        this.delegate = delegate;
+        this.guard = guard;
+        this.options = options;
+        this.resource = resource;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options ignored) throws IOException {
+        guard.acquire();
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            Response response = delegate.execute(request, options);
+            success = response.status() < 500;     // 4xx(잘못된 토큰 등)는 소셜 서버 장애가 아님
+            return response;
+        } finally {
+            guard.release(System.nanoTime() - start, success);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (resource != null) {
+            resource.close();
+        }
+    }
+}
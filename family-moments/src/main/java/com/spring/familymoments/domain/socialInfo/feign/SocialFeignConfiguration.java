@@ -0,0 +1,40 @@
+package com.spring.familymoments.domain.socialInfo.feign;
+
+import feign.Client;
+import feign.Request;
+import feign.httpclient.ApacheHttpClient;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 소셜 로그인 Feign 클라이언트 설정 (@FeignClient configuration 으로만 사용)
+ * 전역 설정이 되지 않도록 @Configuration 을 붙이지 않음
+ *
+ * 클라이언트마다 keep-alive 커넥션 풀 + 타임아웃 + provider 별 동시 호출 제한/서킷 브레이커
+ */
+public class SocialFeignConfiguration {
+
+    @Bean
+    public Client feignClient(SocialProviderGuards socialProviderGuards,
+                              @Value("${feign.client.name}") String clientName,
+                              @Value("${social.http.max-connections:50}") int maxConnections,
+                              @Value("${social.http.connect-timeout-ms:2000}") long connectTimeoutMillis,
+                              @Value("${social.http.read-timeout-ms:3000}") long readTimeoutMillis) {
+        CloseableHttpClient httpClient = HttpClientBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .evictIdleConnections(30, TimeUnit.SECONDS)
+                .disableCookieManagement()
+                .build();
+        Request.Options options = new Request.Options(
+                connectTimeoutMillis, TimeUnit.MILLISECONDS,
+                readTimeoutMillis, TimeUnit.MILLISECONDS,
+                true);
+
+        return new ResilientFeignClient(new ApacheHttpClient(httpClient), socialProviderGuards.get(clientName), options, httpClient);
+    }
+}
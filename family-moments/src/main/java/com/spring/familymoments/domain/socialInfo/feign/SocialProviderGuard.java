@@ -0,0 +1,123 @@
+package com.spring.familymoments.domain.socialInfo.feign;
+
+import com.spring.familymoments.config.BaseException;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.spring.familymoments.config.BaseResponseStatus.SOCIAL_SERVER_UNAVAILABLE;
+
+/**
+ * 소셜 서버(provider) 하나에 대한 동시 호출 제한 + 서킷 브레이커 + 응답 시간 지표
+ *
+ * 동시 호출이 maxConcurrent 를 넘으면 기다리지 않고 거절 -> 느린 소셜 서버가 요청 스레드를 모두 잡지 않도록
+ * 연속 failureThreshold 번 실패(연결/타임아웃/5xx)하면 openMillis 동안 호출하지 않고 바로 거절
+ * 그 후 한 번만 시험 호출, 성공하면 정상 상태로 복귀
+ */
+public class SocialProviderGuard {
+    private final String provider;
+    private final Semaphore bulkhead;
+    private final int failureThreshold;
+    private final long openMillis;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicBoolean trialInProgress = new AtomicBoolean();
+    private volatile long openedAt = 0;     // 0 이면 닫힘(정상)
+
+    // 지표
+    private final AtomicLong callCount = new AtomicLong();
+    private final AtomicLong failureCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    public SocialProviderGuard(String provider, int maxConcurrent, int failureThreshold, long openMillis) {
+        this.provider = provider;
+        this.bulkhead = new Semaphore(maxConcurrent);
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+    }
+
+    /**
+     * 호출 전 : 서킷이 열려있거나 동시 호출 한도를 넘으면 SOCIAL_SERVER_UNAVAILABLE
+     */
+    public void acquire() {
+        boolean trial = false;
+        if (openedAt != 0) {
+            if (!tryStartTrial()) {
+                rejectedCount.incrementAndGet();
+                throw new BaseException(SOCIAL_SERVER_UNAVAILABLE);
+            }
+            trial = true;
+        }
+        if (!bulkhead.tryAcquire()) {
+            // 이 호출이 시험 호출 권한을 가져온 경우에만 반납
+            if (trial) {
+                trialInProgress.set(false);
+            }
+            rejectedCount.incrementAndGet();
+            throw new BaseException(SOCIAL_SERVER_UNAVAILABLE);
+        }
+    }
+
+    /**
+     * 호출 후 : 결과 기록 및 서킷 상태 변경
+     */
+    public void release(long elapsedNanos, boolean success) {
+        bulkhead.release();
+        callCount.incrementAndGet();
+        totalNanos.addAndGet(elapsedNanos);
+        maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+
+        if (success) {
+            consecutiveFailures.set(0);
+            openedAt = 0;
+        } else {
+            failureCount.incrementAndGet();
+            if (openedAt != 0 || consecutiveFailures.incrementAndGet() >= failureThreshold) {
+                openedAt = System.currentTimeMillis();
+            }
+        }
+        trialInProgress.set(false);
+    }
+
+    // 열린 시간이 지났고 아직 시험 호출 중이 아니면 이 호출이 시험 호출
+    private boolean tryStartTrial() {
+        if (System.currentTimeMillis() - openedAt < openMillis) {
+            return false;
+        }
+        return trialInProgress.compareAndSet(false, true);
+    }
+
+    public boolean isOpen() {
+        return openedAt != 0;
+    }
+
+    public String getProvider() {
+        return provider;
+    }
+
+    public long getCallCount() {
+        return callCount.get();
+    }
+
+    public long getFailureCount() {
+        return failureCount.get();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    public long getAverageLatencyMillis() {
+        long count = callCount.get();
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalNanos.get() / count);
+    }
+
+    public long getMaxLatencyMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxNanos.get());
+    }
+}
@@ -0,0 +1,59 @@
+package com.spring.familymoments.domain.socialInfo.feign;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * provider 별 SocialProviderGuard 보관
+ * 같은 provider 의 Feign 클라이언트(인증/유저 정보)는 한도와 서킷을 공유
+ */
+@Slf4j
+@Component
+public class SocialProviderGuards {
+    private static final Map<String, String> PROVIDER_BY_CLIENT = Map.of(
+            "kakaoAuth", "kakao",
+            "kakoUser", "kakao",
+            "naverAuth", "naver",
+            "naverUser", "naver",
+            "googleAuth", "google",
+            "googleUser", "google");
+
+    @Value("${social.http.max-concurrent:20}")
+    private int maxConcurrent;
+    @Value("${social.http.failure-threshold:5}")
+    private int failureThreshold;
+    @Value("${social.http.open-seconds:30}")
+    private long openSeconds;
+
+    private final Map<String, SocialProviderGuard> guards = new ConcurrentHashMap<>();
+
+    public SocialProviderGuard get(String clientName) {
+        String provider = PROVIDER_BY_CLIENT.getOrDefault(clientName, clientName);
+        return guards.computeIfAbsent(provider, key ->
+                new SocialProviderGuard(key, maxConcurrent, failureThreshold, TimeUnit.SECONDS.toMillis(openSeconds)));
+    }
+
+    public Collection<SocialProviderGuard> getAll() {
+        return guards.values();
+    }
+
+    // 1분마다 provider 별 지표 기록
+    @Scheduled(fixedDelay = 60000)
+    public void logMetrics() {
+        for (SocialProviderGuard guard : guards.values()) {
+            if (guard.getCallCount() == 0 && guard.getRejectedCount() == 0) {
+                continue;
+            }
+            log.info("Social http [{}] - calls: {}, failures: {}, rejected: {}, avg: {}ms, max: {}ms, open: {}",
+                    guard.getProvider(), guard.getCallCount(), guard.getFailureCount(), guard.getRejectedCount(),
+                    guard.getAverageLatencyMillis(), guard.getMaxLatencyMillis(), guard.isOpen());
+        }
+    }
+}
@@ -1,14 +1,21 @@
 package com.spring.familymoments.domain.socialInfo.feign.google;
 
 import com.spring.familymoments.config.secret.FeignConfiguration;
+import com.spring.familymoments.domain.socialInfo.feign.SocialFeignConfiguration;
 import com.spring.familymoments.domain.socialInfo.model.GoogleLoginResponse;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
-@FeignClient(value = "googleUser", url = "https://www.googleapis.com", configuration = FeignConfiguration.class)
+import java.util.Map;
+
+@FeignClient(value = "googleUser", url = "https://www.googleapis.com", configuration = {FeignConfiguration.class, SocialFeignConfiguration.class})
 public interface GoogleUserApi {
     @GetMapping("/userinfo/v2/me")
     ResponseEntity<GoogleLoginResponse> getUserInfo(@RequestParam("access_token") String accessToken);
+
+    // ID Token 서명 검증용 공개키 (JWKS)
+    @GetMapping("/oauth2/v3/certs")
+    ResponseEntity<Map<String, Object>> getSigningKeys();
 }
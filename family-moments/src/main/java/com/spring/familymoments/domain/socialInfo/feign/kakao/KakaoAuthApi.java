@@ -1,12 +1,13 @@
 package com.spring.familymoments.domain.socialInfo.feign.kakao;
 
 import com.spring.familymoments.config.secret.FeignConfiguration;
+import com.spring.familymoments.domain.socialInfo.feign.SocialFeignConfiguration;
 import com.spring.familymoments.domain.socialInfo.model.SocialAuthResponse;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-@FeignClient(value = "kakaoAuth", url = "https://kauth.kakao.com", configuration = FeignConfiguration.class)
+@FeignClient(value = "kakaoAuth", url = "https://kauth.kakao.com", configuration = {FeignConfiguration.class, SocialFeignConfiguration.class})
 public interface KakaoAuthApi {
     @GetMapping("/oauth/token")
     ResponseEntity<SocialAuthResponse> getAccessToken(
@@ -1,6 +1,7 @@
 package com.spring.familymoments.domain.socialInfo.feign.kakao;
 
 import com.spring.familymoments.config.secret.FeignConfiguration;
+import com.spring.familymoments.domain.socialInfo.feign.SocialFeignConfiguration;
 import com.spring.familymoments.domain.socialInfo.model.KaKaoDeleteDto;
 import com.spring.familymoments.domain.socialInfo.model.KaKaoLoginResponse;
 import org.springframework.cloud.openfeign.FeignClient;
@@ -9,7 +10,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
 
-@FeignClient(value = "kakoUser", url = "https://kapi.kakao.com", configuration = FeignConfiguration.class)
+@FeignClient(value = "kakoUser", url = "https://kapi.kakao.com", configuration = {FeignConfiguration.class, SocialFeignConfiguration.class})
 public interface KakaoUserApi {
     @GetMapping("/v2/user/me")
     ResponseEntity<KaKaoLoginResponse> getUserInfo(@RequestHeader Map<String, String> header);
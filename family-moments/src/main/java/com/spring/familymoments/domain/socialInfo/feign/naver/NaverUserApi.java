@@ -1,6 +1,7 @@
 package com.spring.familymoments.domain.socialInfo.feign.naver;
 
 import com.spring.familymoments.config.secret.FeignConfiguration;
+import com.spring.familymoments.domain.socialInfo.feign.SocialFeignConfiguration;
 import com.spring.familymoments.domain.socialInfo.model.NaverLoginResponse;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
@@ -10,7 +11,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 
 import java.util.Map;
 
-@FeignClient(value = "naverUser", url = "https://openapi.naver.com", configuration = FeignConfiguration.class)
+@FeignClient(value = "naverUser", url = "https://openapi.naver.com", configuration = {FeignConfiguration.class, SocialFeignConfiguration.class})
 public interface NaverUserApi {
     @GetMapping("/v1/nid/me")
     ResponseEntity<NaverLoginResponse> getUserInfo(@RequestHeader Map<String, String> header);
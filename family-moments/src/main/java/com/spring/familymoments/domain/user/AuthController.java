@@ -125,9 +125,10 @@ public class AuthController {
     @Operation(summary = "로그아웃", description = "쿠키의 내용 지우면서 로그아웃합니다.")
     @ApiResponse(responseCode = "200", description = "OK")
     public ResponseEntity<?> logout(@RequestHeader("X-AUTH-TOKEN") String requestAccessToken,
+                                    @RequestHeader(value = "FCM-Token", required = false) String fcmToken,
                                     @AuthenticationPrincipal @Parameter(hidden = true) User user) {
         authService.logout(requestAccessToken);
-        fcmService.deleteToken(user.getId());     // FCM Token 삭제
+        fcmService.deleteToken(user.getId(), fcmToken);     // 로그아웃한 기기의 FCM Token 삭제
         return ResponseEntity.status(HttpStatus.OK)
                 .body(new BaseResponse<>(SUCCESS));
     }
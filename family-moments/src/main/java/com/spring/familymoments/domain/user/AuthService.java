@@ -13,10 +13,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,28 +36,37 @@ public class AuthService {
     private final UserRepository userRepository;
     private final UserFamilyRepository userFamilyRepository;
     private final JwtService jwtService;
-    private final PasswordEncoder passwordEncoder;
-    private final AuthenticationManagerBuilder authenticationManagerBuilder;
+    private final PasswordHashingService passwordHashingService;
+    private final PrincipalCache principalCache;
     private final RedisService redisService;
+    private final TokenRevocationService tokenRevocationService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final RefreshTokenStore refreshTokenStore;
     private final String SERVER = "Server";
 
     /**
      * 로그인 : 인증 정보 저장 및 토큰 발급
      */
+    @Transactional
     public TokenDto login(PostLoginReq postLoginReq) {
         User user = userRepository.findById(postLoginReq.getId())
                 .orElseThrow(() -> new BaseException(FAILED_TO_LOGIN_ID)); //아이디가 일치하지 않습니다. //탈퇴하거나 신고당한 유저입니다.
         //if(user.getStatus().equals(User.Status.INACTIVE)) {
         //    throw new BaseException(FAILED_TO_LOGIN);
         //}
-        if(!passwordEncoder.matches(postLoginReq.getPassword(), user.getPassword())) {
+        if(!passwordHashingService.matches(postLoginReq.getPassword(), user.getPassword())) {
             throw new BaseException(FAILED_TO_LOGIN_PWD); //비밀번호가 일치하지 않습니다.
         }
+        //해싱 설정(cost)이 바뀐 경우 새 설정으로 다시 저장
+        if(passwordHashingService.needsRehash(user.getPassword())) {
+            user.updatePassword(passwordHashingService.encode(postLoginReq.getPassword()));
+            userRepository.save(user);
+            principalCache.evict(user.getUuid());
+        }
 
-        UsernamePasswordAuthenticationToken authenticationToken
-                = new UsernamePasswordAuthenticationToken(user.getUuid(), postLoginReq.getPassword());
-        Authentication authentication = authenticationManagerBuilder.getObject()
-                .authenticate(authenticationToken);
+        //비밀번호는 위에서 검증했으므로 AuthenticationManager 로 다시 해싱하지 않고 인증 정보 생성
+        Authentication authentication
+                = new UsernamePasswordAuthenticationToken(user.getUuid(), null, user.getAuthorities());
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
         return generateToken(SERVER, authentication.getName());
@@ -97,33 +104,29 @@ public class AuthService {
             throw new BaseException(INVALID_USER_JWT);
         }
 
-        String refreshTokenInRedis = redisService.getValues("RT(" + SERVER + "):" + principal);
-        if(refreshTokenInRedis == null) { //Redis에 저장되어 있는 RefreshToken이 없을 경우
+        //요청된 RT의 유효성 검사
+        if(!jwtService.validateRefreshToken(requestRefreshToken)) {
+            refreshTokenStore.delete(SERVER, principal); //탈취 가능성 때문에 삭제
             return null; // 재로그인 요청
         }
-        //요청된 RT의 유효성 검사 & Redis에 저장되어 있는 RT와 같은지 비교
-        if(!jwtService.validateRefreshToken(requestRefreshToken) || !refreshTokenInRedis.equals(requestRefreshToken)) {
-            redisService.deleteValues("RT(" + SERVER + "):" + principal); //탈취 가능성 때문에 삭제
+
+        //Redis에 저장되어 있는 RT와 같을 때만 새 RT로 교체 (비교, 교체, TTL 설정을 한 번에 처리)
+        TokenDto tokenDto = jwtService.createToken(principal);
+        RefreshTokenStore.RotationResult result = refreshTokenStore.rotate(SERVER, principal,
+                requestRefreshToken, tokenDto.getRefreshToken(), getRemainingTime(tokenDto.getRefreshToken()));
+        if(result != RefreshTokenStore.RotationResult.ROTATED) {
+            log.info("Refresh token rotation rejected for {} : {}", principal, result);
             return null; // 재로그인 요청
         }
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
-
-        //토큰 재발급 및 Redis 업데이트
-        redisService.deleteValues("RT(" + SERVER +"):" + principal);
-        TokenDto tokenDto = jwtService.createToken(principal);
-        saveRefreshToken(SERVER, principal, tokenDto.getRefreshToken());
         return tokenDto;
     }
     /**
      * 토큰 발급
      */
     public TokenDto generateToken(String provider, String uuid) {
-        //refresh token이 이미 있을 경우
-        if(redisService.getValues("RT(" + provider + "):" + uuid) != null) {
-            redisService.deleteValues("RT(" + provider + "):" + uuid);
-        }
-        //AT, RT 생성 및 Redis에 RT 저장
+        //AT, RT 생성 및 Redis에 RT 저장 (refresh token이 이미 있을 경우 덮어씀)
         TokenDto tokenDto = jwtService.createToken(uuid);
         saveRefreshToken(provider, uuid, tokenDto.getRefreshToken());
         return tokenDto;
@@ -134,16 +137,35 @@ public class AuthService {
      */
     @Transactional
     public void saveRefreshToken(String provider, String principal, String refreshToken) {
-        redisService.setValuesWithTimeout("RT(" + provider + "):" + principal, //key
-                refreshToken, //value
-                jwtService.getTokenExpirationTime(refreshToken)); //timeout(millis)
+        refreshTokenStore.save(provider, principal, refreshToken, getRemainingTime(refreshToken));
+    }
+
+    /**
+     * 토큰의 남은 유효시간(ms)
+     */
+    private long getRemainingTime(String token) {
+        return jwtService.getTokenExpirationTime(token) - new Date().getTime();
     }
 
     /**
      * AccessToken으로부터 principal 추출
+     * : 한 번 검증한 토큰은 만료 전까지 캐시에서 조회
      */
     public String getPrincipal(String requestAccessToken) {
-        return jwtService.getAuthentication(requestAccessToken).getName();
+        String principal = verifiedTokenCache.getPrincipal(requestAccessToken);
+        if(principal != null) {
+            return principal;
+        }
+        principal = jwtService.getAuthentication(requestAccessToken).getName();
+        verifiedTokenCache.put(requestAccessToken, principal, jwtService.getTokenExpirationTime(requestAccessToken));
+        return principal;
+    }
+
+    /**
+     * 로그아웃/탈퇴 처리된 AccessToken인지 확인
+     */
+    public boolean isRevoked(String requestAccessToken) {
+        return tokenRevocationService.isRevoked(requestAccessToken);
     }
 
     //토큰 앞에 토큰 종류 명시하는 것으로 변경되면, 사용해야 함.
@@ -162,13 +184,9 @@ public class AuthService {
             throw new BaseException(INVALID_USER_JWT);
         }
         //Redis에 저장되어 있는 RT 삭제
-        String refreshTokenInRedis = redisService.getValues("RT(" + SERVER + "):" + principal);
-        if(refreshTokenInRedis != null) {
-            redisService.deleteValues("RT(" + SERVER + "):" + principal);
-        }
-        //Redis에 로그아웃 처리한 AT 저장
-        long expiration = jwtService.getTokenExpirationTime(requestAccessTokenInHeader) - new Date().getTime();
-        redisService.setValuesWithTimeout(requestAccessTokenInHeader, "logout", expiration);
+        refreshTokenStore.delete(SERVER, principal);
+        //로그아웃 처리한 AT 폐기 (토큰 id 만 저장)
+        tokenRevocationService.revoke(requestAccessTokenInHeader, "logout", getRemainingTime(requestAccessTokenInHeader));
     }
 
     /**
@@ -0,0 +1,75 @@
+package com.spring.familymoments.domain.user;
+
+import com.spring.familymoments.config.advice.exception.TooManyRequestsException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.mail.internet.MimeMessage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 메일 전송 큐
+ * 요청 스레드는 큐에 넣고 바로 반환, mailExecutor 의 워커들이 꺼내서 전송
+ * 쌓여있는 메일은 최대 MAX_BATCH_SIZE 개씩 묶어서 SMTP 연결 하나로 전송
+ */
+@Slf4j
+@Component
+public class EmailDispatchQueue {
+    private static final int MAX_BATCH_SIZE = 20;
+    private static final long RETRY_AFTER_SECONDS = 10;
+
+    private final JavaMailSender emailSender;
+    private final ThreadPoolTaskExecutor mailExecutor;
+    private final BlockingQueue<MimeMessage> queue;
+
+    public EmailDispatchQueue(JavaMailSender emailSender,
+                              @Qualifier("mailExecutor") ThreadPoolTaskExecutor mailExecutor,
+                              @Value("${mail.dispatch.queue-capacity:1000}") int queueCapacity) {
+        this.emailSender = emailSender;
+        this.mailExecutor = mailExecutor;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    // 워커 스레드 수 = mailExecutor 풀 크기
+    @PostConstruct
+    public void startWorkers() {
+        for (int i = 0; i < mailExecutor.getCorePoolSize(); i++) {
+            mailExecutor.execute(this::work);
+        }
+    }
+
+    public void enqueue(MimeMessage message) {
+        if (!queue.offer(message)) {
+            throw new TooManyRequestsException(RETRY_AFTER_SECONDS);
+        }
+    }
+
+    private void work() {
+        List<MimeMessage> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(queue.take());
+                queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+                emailSender.send(batch.toArray(new MimeMessage[0]));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (MailException e) {
+                log.error("Failed to send {} emails", batch.size(), e);
+            } catch (RuntimeException e) {
+                // 워커는 다시 시작되지 않으므로 어떤 예외에도 루프를 이어감
+                log.error("Unexpected error while sending {} emails", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+}
@@ -15,6 +15,7 @@ import javax.mail.MessagingException;
 import javax.mail.internet.InternetAddress;
 import javax.mail.internet.MimeMessage;
 import java.io.UnsupportedEncodingException;
+import java.security.SecureRandom;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -32,15 +33,19 @@ public class EmailService {
 
     private final JavaMailSender emailSender;
 
-    private String randomVerificationCode;
+    private final VerificationEmailTemplate verificationEmailTemplate;
+
+    private final EmailDispatchQueue emailDispatchQueue;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
 
     /**
      * createRandomCode
-     *
+     * 요청마다 새로 생성해서 Redis 에만 저장 (서비스 필드에 보관하지 않음)
      * @return String
      */
     public String createRandomCode(String email){
-        randomVerificationCode = RandomStringUtils.random(6, 33, 125, false, true);
+        String randomVerificationCode = RandomStringUtils.random(6, 33, 125, false, true, null, RANDOM);
         int CODE_EXPIRATION_TIME = 3 * 60 * 1000; // 인증 코드 유효 시간: 3분
 
         redisService.setValuesWithTimeout("VC(" + email + "):", randomVerificationCode, CODE_EXPIRATION_TIME);
@@ -53,42 +58,29 @@ public class EmailService {
      *
      * @return MimeMessage -> 인증 메일
      */
-    public MimeMessage createEmailForm(String email) throws MessagingException, UnsupportedEncodingException {
-
-        createRandomCode(email);
+    public MimeMessage createEmailForm(String email, String randomVerificationCode) throws MessagingException, UnsupportedEncodingException {
 
         String emailReceiver = email; //받는 사람
         String title = "Family Moments 본인 인증 번호";
-        String messageContext = "";
-        messageContext += "<div style = \"background-color: #F7E1E3; margin: -8px -8px 50px -8px; height: 100px; padding-top: 50px;\">\n" +
-                "<span style = \"color: #5B6380; margin-left:50px; text-align: left; font-weight:900; font-family: Segoe Script; font-size: 25px;\">Family Moments</span>\n" +
-                "</div>\n" +
-                "<h1 style = \"display: flex; justify-content: flex-start; margin-left:50px; font-weight:900; font-family: Roboto; font-size:35px; margin-bottom: 80px;\">이메일 인증</h1>\n" +
-                "<h2 style = \"display: flex; justify-content: flex-start; margin-left:50px; font-weight:900; font-family: Roboto; font-size:20px; margin-bottom: 10px;\">안녕하세요, 고객님</h2>\n" +
-                "<p style = \"display: flex; justify-content: flex-start; margin-left:50px; font-weight:900; font-family: Roboto; margin-bottom: 60px;\">아이디 찾기/비밀번호 재설정을 위해 이메일 인증을 진행합니다.\n" +
-                "아래 발급된 이메일 인증번호를 복사하거나 직접 입력하여 인증을 완료해주세요.</p>\n" +
-                "<span style = \"display: flex; justify-content: flex-start; margin-left:50px; font-weight:900; font-family: Roboto; margin-bottom: 10px;\">인증번호 : " + randomVerificationCode + "</span>\n" +
-                "<p style = \"display: flex; justify-content: flex-start; margin-left:50px; font-weight:900; font-family: Roboto; margin-bottom: 100px;\">감사합니다.</p>\n" +
-                "<p style = \"color: #96979C; display: flex; justify-content: flex-start; margin-left:50px; font-weight:900; font-family: Roboto; font-size: 10px;\">* 귀하가 한 행동이 아니라면 이 이메일을 무시하셔도 됩니다.</p>\n";
 
         MimeMessage message = emailSender.createMimeMessage();
         message.setFrom(new InternetAddress("sonshumc75@gmail.com", "Family Moments")); //발신자 설정
         message.addRecipients(MimeMessage.RecipientType.TO, emailReceiver); //수신자 설정
         message.setSubject(title); //제목 설정
-        message.setText(messageContext, "utf-8", "html"); //내용 설정
+        message.setText(verificationEmailTemplate.render(randomVerificationCode), "utf-8", "html"); //내용 설정
 
         return message;
     }
 
     /**
      * createEmailForm
-     * 이메일 전송
+     * 이메일 전송 : 인증 코드를 저장하고 메일은 큐에 넣은 뒤 바로 반환 (전송은 EmailDispatchQueue 워커)
      * @return String randomVerificationCode
      */
     public String sendEmail(String name, String emailReceiver) throws MessagingException, BaseException, UnsupportedEncodingException {
 
-        MimeMessage emailForm = createEmailForm(emailReceiver);
-        emailSender.send(emailForm);
+        String randomVerificationCode = createRandomCode(emailReceiver);
+        emailDispatchQueue.enqueue(createEmailForm(emailReceiver, randomVerificationCode));
 
         return randomVerificationCode;
     }
@@ -135,7 +127,7 @@ public class EmailService {
         }
 
         // randomVerificationCode = emailService.sendEmail(req.getName(), req.getEmail());
-        randomVerificationCode = redisService.getValues("VC("+ req.getEmail() + "):");
+        String randomVerificationCode = redisService.getValues("VC("+ req.getEmail() + "):");
 
         return Objects.equals(req.getCode(), randomVerificationCode);
     }
@@ -0,0 +1,124 @@
+package com.spring.familymoments.domain.user;
+
+import com.spring.familymoments.config.BaseException;
+import com.spring.familymoments.config.advice.exception.TooManyRequestsException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.spring.familymoments.config.BaseResponseStatus.SERVER_ERROR;
+
+/**
+ * 비밀번호 해싱/검증
+ * PasswordEncoder 를 요청 스레드가 아닌 전용 풀(passwordHashingExecutor)에서 실행
+ * 풀이 가득 차면 기다리지 않고 TooManyRequestsException (429 + Retry-After)
+ */
+@Slf4j
+@Service
+public class PasswordHashingService {
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor executor;
+
+    @Value("${security.password-hashing.timeout-ms:5000}")
+    private long timeoutMillis;
+    @Value("${security.password-hashing.retry-after-seconds:3}")
+    private long retryAfterSeconds;
+    @Value("${security.password-hashing.rehash-on-login:false}")
+    private boolean rehashOnLogin;
+
+    // 지표
+    private final AtomicLong hashCount = new AtomicLong();
+    private final AtomicLong hashNanos = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  @Qualifier("passwordHashingExecutor") ThreadPoolTaskExecutor executor) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = executor;
+    }
+
+    public String encode(String rawPassword) {
+        return execute(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 로그인 성공 시 다시 해싱해야 하는지 (cost 변경 등)
+     * security.password-hashing.rehash-on-login 이 켜져 있을 때만
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return rehashOnLogin && passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long start = System.nanoTime();
+                try {
+                    return task.call();
+                } finally {
+                    hashCount.incrementAndGet();
+                    hashNanos.addAndGet(System.nanoTime() - start);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCount.incrementAndGet();
+            throw new TooManyRequestsException(retryAfterSeconds);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCount.incrementAndGet();
+            throw new TooManyRequestsException(retryAfterSeconds);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BaseException(SERVER_ERROR);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new BaseException(SERVER_ERROR);
+        }
+    }
+
+    public int getQueueDepth() {
+        return executor.getThreadPoolExecutor().getQueue().size();
+    }
+
+    public long getAverageHashMillis() {
+        long count = hashCount.get();
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(hashNanos.get() / count);
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    // 1분마다 지표 기록 (해싱 요청이 있었던 경우만)
+    @Scheduled(fixedDelay = 60000)
+    public void logMetrics() {
+        if (hashCount.get() == 0 && rejectedCount.get() == 0) {
+            return;
+        }
+        log.info("Password hashing - count: {}, avg: {}ms, queue: {}, active: {}, rejected: {}",
+                hashCount.get(), getAverageHashMillis(), getQueueDepth(), executor.getActiveCount(), getRejectedCount());
+    }
+}
@@ -0,0 +1,133 @@
+package com.spring.familymoments.domain.user;
+
+import com.spring.familymoments.domain.user.entity.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증된 유저(principal) 캐시
+ * uuid -> 유저 컬럼 값(불변 스냅샷). 요청마다 findUserByUuid 를 실행하지 않도록 TTL 동안 재사용
+ * 요청마다 스냅샷으로 새 User 를 만들어서 돌려줌 (요청/스레드 간에 같은 엔티티를 공유하지 않음)
+ * 프로필/비밀번호 변경, 탈퇴, 신고 시 UserService 에서 evict -> principal-eviction 채널로 다른 서버에도 전파
+ */
+@Component
+@RequiredArgsConstructor
+public class PrincipalCache implements MessageListener {
+    public static final String EVICTION_CHANNEL = "principal-eviction";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${security.principal-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+    @Value("${security.principal-cache.max-size:10000}")
+    private int maxSize;
+
+    private final Map<String, Snapshot> cache = Collections.synchronizedMap(
+            new LinkedHashMap<String, Snapshot>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Snapshot> eldest) {
+                    return size() > maxSize;
+                }
+            });
+
+    /**
+     * @return 캐시된 값으로 만든 새 유저, 없거나 TTL 이 지난 경우 null
+     */
+    public User get(String uuid) {
+        Snapshot snapshot = cache.get(uuid);
+        if (snapshot == null) {
+            return null;
+        }
+        if (snapshot.expiresAt <= System.currentTimeMillis()) {
+            cache.remove(uuid);
+            return null;
+        }
+        return snapshot.toUser();
+    }
+
+    public void put(User user) {
+        cache.put(user.getUuid(), new Snapshot(user, System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(ttlSeconds)));
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 후 한 번 더 삭제하고 다른 서버에 전파
+     * (커밋 전에 다른 요청이 변경 전 유저를 다시 캐시하는 경우 방지)
+     */
+    public void evict(String uuid) {
+        cache.remove(uuid);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.remove(uuid);
+                    redisTemplate.convertAndSend(EVICTION_CHANNEL, uuid);
+                }
+            });
+            return;
+        }
+        redisTemplate.convertAndSend(EVICTION_CHANNEL, uuid);
+    }
+
+    // 다른 서버에서 변경된 유저 uuid 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Object uuid = redisTemplate.getValueSerializer().deserialize(message.getBody());
+        if (uuid != null) {
+            cache.remove((String) uuid);
+        }
+    }
+
+    /**
+     * 캐시에 보관하는 유저 컬럼 값 (모두 final)
+     */
+    private static class Snapshot {
+        private final Long userId;
+        private final String id;
+        private final String uuid;
+        private final String email;
+        private final String password;
+        private final String name;
+        private final String nickname;
+        private final LocalDateTime birthDate;
+        private final String profileImg;
+        private final User.Status status;
+        private final int reported;
+        private final LocalDateTime createdAt;
+        private final LocalDateTime updatedAt;
+        private final long expiresAt;   // 캐시 만료 시각(epoch ms)
+
+        private Snapshot(User user, long expiresAt) {
+            this.userId = user.getUserId();
+            this.id = user.getId();
+            this.uuid = user.getUuid();
+            this.email = user.getEmail();
+            this.password = user.getPassword();
+            this.name = user.getName();
+            this.nickname = user.getNickname();
+            this.birthDate = user.getBirthDate();
+            this.profileImg = user.getProfileImg();
+            this.status = user.getStatus();
+            this.reported = user.getReported();
+            this.createdAt = user.getCreatedAt();
+            this.updatedAt = user.getUpdatedAt();
+            this.expiresAt = expiresAt;
+        }
+
+        private User toUser() {
+            return User.restore(userId, id, uuid, email, password, name, nickname, birthDate, profileImg,
+                    status, reported, createdAt, updatedAt);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.spring.familymoments.domain.user;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RefreshToken 저장소
+ *
+ * RT(provider):uuid       현재 유효한 RefreshToken
+ * RT_PREV(provider):uuid  직전 RefreshToken (재발급 직후 잠깐 보관 -> 동시 재발급 요청과 탈취를 구분)
+ *
+ * 재발급은 Lua 스크립트 하나로 비교 -> 교체 -> TTL 설정을 원자적으로 처리
+ * 동시에 같은 RT 로 재발급을 요청해도 하나만 성공
+ */
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenStore {
+    private static final long PREVIOUS_TOKEN_GRACE_MILLIS = 10_000;
+
+    /**
+     * KEYS[1] 현재 RT 키, KEYS[2] 직전 RT 키
+     * ARGV[1] 요청된 RT, ARGV[2] 새 RT, ARGV[3] 새 RT TTL(ms), ARGV[4] 직전 RT 보관 시간(ms)
+     * 반환 1: 교체 성공, 0: 저장된 RT 없음, -1: 탈취 의심(저장된 RT 삭제), -2: 이미 교체된 직전 RT
+     */
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('GET', KEYS[1]) " +
+            "if not current then return 0 end " +
+            "if current ~= ARGV[1] then " +
+            "  if redis.call('GET', KEYS[2]) == ARGV[1] then return -2 end " +
+            "  redis.call('DEL', KEYS[1], KEYS[2]) " +
+            "  return -1 " +
+            "end " +
+            "redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) " +
+            "redis.call('SET', KEYS[2], ARGV[1], 'PX', ARGV[4]) " +
+            "return 1",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public enum RotationResult {
+        ROTATED,        // 재발급 성공
+        NOT_FOUND,      // 저장된 RT 없음 (만료, 로그아웃) -> 재로그인
+        REUSED,         // 다른 요청이 먼저 재발급함 -> 재로그인 (새 RT 는 유지)
+        THEFT           // 저장된 RT 와 다름 -> 저장된 RT 삭제 후 재로그인
+    }
+
+    /**
+     * RT 저장 (기존 RT 가 있으면 덮어씀)
+     * @param timeout RT 남은 유효시간(ms)
+     */
+    public void save(String provider, String principal, String refreshToken, long timeout) {
+        redisTemplate.opsForValue().set(currentKey(provider, principal), refreshToken, timeout, TimeUnit.MILLISECONDS);
+    }
+
+    public void delete(String provider, String principal) {
+        redisTemplate.delete(Arrays.asList(currentKey(provider, principal), previousKey(provider, principal)));
+    }
+
+    /**
+     * 요청된 RT 가 저장된 RT 와 같을 때만 새 RT 로 교체
+     * @param timeout 새 RT 남은 유효시간(ms)
+     */
+    public RotationResult rotate(String provider, String principal, String requestRefreshToken,
+                                 String newRefreshToken, long timeout) {
+        Long result = redisTemplate.execute(ROTATE_SCRIPT,
+                Arrays.asList(currentKey(provider, principal), previousKey(provider, principal)),
+                requestRefreshToken, newRefreshToken, String.valueOf(timeout), String.valueOf(PREVIOUS_TOKEN_GRACE_MILLIS));
+
+        if (result == null || result == 0) {
+            return RotationResult.NOT_FOUND;
+        }
+        if (result == 1) {
+            return RotationResult.ROTATED;
+        }
+        return result == -2 ? RotationResult.REUSED : RotationResult.THEFT;
+    }
+
+    private String currentKey(String provider, String principal) {
+        return "RT(" + provider + "):" + principal;
+    }
+
+    private String previousKey(String provider, String principal) {
+        return "RT_PREV(" + provider + "):" + principal;
+    }
+}
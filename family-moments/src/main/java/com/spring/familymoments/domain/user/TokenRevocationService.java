@@ -0,0 +1,127 @@
+package com.spring.familymoments.domain.user;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import com.spring.familymoments.domain.redis.RedisService;
+import com.spring.familymoments.utils.SHA256;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그아웃/탈퇴한 AccessToken 관리
+ *
+ * BL(토큰 id):  값 "logout" / "delete", 토큰 남은 유효시간만큼 TTL
+ * 토큰 id 는 AccessToken 의 SHA-256 해시 (토큰 전체를 키로 저장하지 않음)
+ * 요청마다 RevokedAccessTokenFilter 가 isRevoked 로 확인
+ *
+ * 서버마다 폐기된 토큰 id 의 Bloom filter 를 메모리에 두고 Redis pub/sub 으로 동기화
+ * -> Bloom filter 에 없으면 Redis 조회 없이 유효한 토큰으로 판단
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationService implements MessageListener {
+    public static final String REVOCATION_CHANNEL = "token-revocation";
+    private static final String KEY_PREFIX = "BL(";
+    private static final String KEY_SUFFIX = "):";
+    private static final int EXPECTED_REVOCATIONS = 100_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisService redisService;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    private volatile BloomFilter<String> revokedIds = newFilter();
+    private volatile BloomFilter<String> rebuildingIds;     // 재구성 중 들어온 폐기 id 도 새 필터에 반영
+
+    /**
+     * 토큰 폐기 : Redis 저장 -> 다른 서버에 전파 -> 내 서버 필터/캐시 반영
+     * @param expiration 토큰의 남은 유효시간(ms)
+     */
+    public void revoke(String accessToken, String reason, long expiration) {
+        String tokenId = SHA256.encrypt(accessToken);
+        if (expiration > 0) {
+            redisService.executePipelined(operations -> {
+                operations.opsForValue().set(revocationKey(tokenId), reason, expiration, TimeUnit.MILLISECONDS);
+                operations.convertAndSend(REVOCATION_CHANNEL, tokenId);
+            });
+        }
+        addRevokedId(tokenId);
+        verifiedTokenCache.evict(accessToken);
+    }
+
+    public boolean isRevoked(String accessToken) {
+        String tokenId = SHA256.encrypt(accessToken);
+        if (!revokedIds.mightContain(tokenId)) {
+            return false;
+        }
+        // Bloom filter 오탐 가능성이 있으므로 Redis 에서 확인
+        return Boolean.TRUE.equals(redisTemplate.hasKey(revocationKey(tokenId)));
+    }
+
+    // 다른 서버에서 폐기한 토큰 id 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Object tokenId = redisTemplate.getValueSerializer().deserialize(message.getBody());
+        if (tokenId != null) {
+            addRevokedId((String) tokenId);
+        }
+    }
+
+    /**
+     * Redis 에 남아있는 폐기 토큰으로 필터 재구성
+     * 서버 시작 시 + 주기적으로 (Bloom filter 는 삭제가 불가능하므로 만료된 토큰 id 를 비우기 위함)
+     */
+    @PostConstruct
+    @Scheduled(initialDelayString = "${jwt.revocation.rebuild-interval:3600000}",
+            fixedDelayString = "${jwt.revocation.rebuild-interval:3600000}")
+    public void rebuild() {
+        BloomFilter<String> filter = newFilter();
+        rebuildingIds = filter;
+        try {
+            redisTemplate.execute((RedisCallback<Void>) connection -> {
+                ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+                try (Cursor<byte[]> cursor = connection.scan(options)) {
+                    while (cursor.hasNext()) {
+                        String key = new String(cursor.next(), StandardCharsets.UTF_8);
+                        filter.put(key.substring(KEY_PREFIX.length(), key.length() - KEY_SUFFIX.length()));
+                    }
+                }
+                return null;
+            });
+            revokedIds = filter;
+        } catch (Exception e) {
+            log.error("Failed to rebuild revoked token filter", e);
+        } finally {
+            rebuildingIds = null;
+        }
+    }
+
+    private void addRevokedId(String tokenId) {
+        revokedIds.put(tokenId);
+        BloomFilter<String> rebuilding = rebuildingIds;
+        if (rebuilding != null) {
+            rebuilding.put(tokenId);
+        }
+    }
+
+    private BloomFilter<String> newFilter() {
+        return BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), EXPECTED_REVOCATIONS, FALSE_POSITIVE_RATE);
+    }
+
+    private String revocationKey(String tokenId) {
+        return KEY_PREFIX + tokenId + KEY_SUFFIX;
+    }
+}
@@ -0,0 +1,132 @@
+package com.spring.familymoments.domain.user;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * 가입된 아이디/이메일 Bloom filter
+ * 필터에 없으면 DB 조회 없이 "사용 가능"으로 판단, 있을 수도 있는 경우만 DB 확인
+ *
+ * 시작 시 User 테이블을 스트리밍해서 생성, 가입 시 추가 (다른 서버에는 Redis pub/sub 으로 전파)
+ * Bloom filter 는 삭제가 불가능하므로 탈퇴한 계정은 주기적인 재생성 때 빠짐
+ * MySQL 비교가 대소문자를 구분하지 않으므로 소문자로 바꿔서 저장/조회
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserAvailabilityFilter implements MessageListener {
+    public static final String REGISTRATION_CHANNEL = "user-registration";
+    static final String DELIMITER = "\n";
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${user.availability-filter.expected-users:1000000}")
+    private int expectedUsers;
+
+    private volatile BloomFilters filters;      // 생성 전에는 null -> 모두 DB 확인
+    private volatile BloomFilters rebuilding;   // 재생성 중 가입한 아이디/이메일도 새 필터에 반영
+
+    public boolean mightContainId(String id) {
+        BloomFilters current = filters;
+        return current == null || current.ids.mightContain(normalize(id));
+    }
+
+    public boolean mightContainEmail(String email) {
+        BloomFilters current = filters;
+        return current == null || current.emails.mightContain(normalize(email));
+    }
+
+    // 가입 완료 시 호출
+    public void register(String id, String email) {
+        add(id, email);
+        redisTemplate.convertAndSend(REGISTRATION_CHANNEL, id + DELIMITER + email);
+    }
+
+    // 다른 서버에서 가입한 아이디/이메일 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Object body = redisTemplate.getValueSerializer().deserialize(message.getBody());
+        if (body == null) {
+            return;
+        }
+        String[] idAndEmail = ((String) body).split(DELIMITER, 2);
+        if (idAndEmail.length == 2) {
+            add(idAndEmail[0], idAndEmail[1]);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        rebuild();
+    }
+
+    /**
+     * ACTIVE 유저의 아이디/이메일로 필터 재생성 (매일 새벽 4시)
+     */
+    @Scheduled(cron = "0 0 4 * * *")
+    public void rebuild() {
+        BloomFilters next = new BloomFilters(expectedUsers);
+        rebuilding = next;
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<Object[]> rows = userRepository.streamActiveIdAndEmail()) {
+                    rows.forEach(row -> next.put((String) row[0], (String) row[1]));
+                }
+            });
+            filters = next;
+            log.info("User availability filter built.");
+        } catch (Exception e) {
+            log.error("Failed to build user availability filter", e);
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    private void add(String id, String email) {
+        BloomFilters current = filters;
+        if (current != null) {
+            current.put(id, email);
+        }
+        BloomFilters next = rebuilding;
+        if (next != null) {
+            next.put(id, email);
+        }
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static class BloomFilters {
+        private final BloomFilter<String> ids;
+        private final BloomFilter<String> emails;
+
+        private BloomFilters(int expectedUsers) {
+            this.ids = BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), expectedUsers, FALSE_POSITIVE_RATE);
+            this.emails = BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), expectedUsers, FALSE_POSITIVE_RATE);
+        }
+
+        private void put(String id, String email) {
+            ids.put(normalize(id));
+            emails.put(normalize(email));
+        }
+    }
+}
@@ -18,16 +18,20 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.mail.MessagingException;
 import javax.validation.Valid;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.NoSuchElementException;
 
@@ -116,7 +120,7 @@ public class UserController {
     public BaseResponse<String> checkDuplicateId(@Parameter(description = "회원 가입할 때 중복 검사를 할 아이디")
                                                      @Valid @RequestBody GetDuplicateUserIdReq getDuplicateUserIdReq) {
 
-        if(!userService.checkDuplicateIdByStatus(getDuplicateUserIdReq.getId())) {
+        if(!userService.checkDuplicateIdWithFilter(getDuplicateUserIdReq.getId())) {
             return new BaseResponse<>("사용 가능한 아이디입니다.");
         } else {
             return new BaseResponse<>(POST_USERS_EXISTS_ID);
@@ -134,7 +138,7 @@ public class UserController {
     public BaseResponse<String> checkDuplicateEmail(@Parameter(description = "회원 가입할 때 중복 검사를 할 이메일")
                                                         @Valid @RequestBody GetDuplicateUserEmailReq getDuplicateUserEmailReq) {
 
-        if(!userService.checkDuplicateEmailByStatus(getDuplicateUserEmailReq.getEmail())) {
+        if(!userService.checkDuplicateEmailWithFilter(getDuplicateUserEmailReq.getEmail())) {
             return new BaseResponse<>("사용 가능한 이메일입니다.");
         } else {
             return new BaseResponse<>(POST_USERS_EXISTS_EMAIL);
@@ -251,14 +255,17 @@ public class UserController {
     }
     /**
      * 초대 리스트 확인 API
-     * [GET] /users/invitation
+     * [GET] /users/invitation?invitedAt={이전 페이지의 마지막 invitedAt}&invitationId={이전 페이지의 마지막 invitationId}
      * @return BaseResponse<List<GetInvitationRes>>
      */
     @GetMapping("/users/invitation")
-    @Operation(summary = "초대 리스트 확인", description = "사용자가 아직 수락하지 않은 초대 리스트를 확인할 수 있는 API입니다.")
-    public BaseResponse<List<GetInvitationRes>> getInvitationList(@AuthenticationPrincipal @Parameter(hidden=true) User user){
+    @Operation(summary = "초대 리스트 확인", description = "사용자가 아직 수락하지 않은 초대 리스트를 확인할 수 있는 API입니다. 다음 페이지는 마지막 invitedAt, invitationId를 전달합니다.")
+    public BaseResponse<List<GetInvitationRes>> getInvitationList(@AuthenticationPrincipal @Parameter(hidden=true) User user,
+                                                                  @RequestParam(value = "invitedAt", required = false)
+                                                                  @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime invitedAt,
+                                                                  @RequestParam(value = "invitationId", required = false) Long invitationId){
         try {
-            List<GetInvitationRes> getInvitationRes = userService.getInvitationList(user);
+            List<GetInvitationRes> getInvitationRes = userService.getInvitationList(user, invitedAt, invitationId);
 
             // TODO: 초대 요청이 없을 경우 빈 리스트 반환
 //            if (getInvitationRes.isEmpty()) {
@@ -405,13 +412,15 @@ public class UserController {
     /**
      * 전체 회원정보 조회 API / 화면 외 API
      * [GET] /users/all
-     * @return BaseResponse<List<User>>
+     * @return NDJSON (한 줄에 UserExportRes 하나)
      */
     @NoAuthCheck
-    @GetMapping("/users/all")
-    public BaseResponse<List<User>> getAllUser() {
-        List<User> userList = userService.getAllUser();
-        return new BaseResponse<>(userList);
+    @GetMapping(value = "/users/all", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> getAllUser() {
+        StreamingResponseBody body = userService::exportAllUsers;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     /**
@@ -0,0 +1,180 @@
+package com.spring.familymoments.domain.user;
+
+import com.spring.familymoments.domain.alarmSetting.AlarmSettingRepository;
+import com.spring.familymoments.domain.comment.CommentReportRepository;
+import com.spring.familymoments.domain.comment.CommentWithUserRepository;
+import com.spring.familymoments.domain.commentLove.CommentLoveWithUserRepository;
+import com.spring.familymoments.domain.common.UserFamilyRepository;
+import com.spring.familymoments.domain.family.model.FamilyHomeEvent;
+import com.spring.familymoments.domain.family.model.FamilyHomeSnapshot;
+import com.spring.familymoments.domain.post.PostReportRepository;
+import com.spring.familymoments.domain.post.PostWithUserRepository;
+import com.spring.familymoments.domain.postLove.PostLoveRepository;
+import com.spring.familymoments.domain.socialInfo.SocialUserRepository;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+/**
+ * 회원 탈퇴 후속 정리 작업
+ * 좋아요/댓글/게시글/매핑/소셜 정보/알람 세팅/신고 내역을 단계별로 chunk-size 개씩 일괄 UPDATE (chunk 마다 별도 트랜잭션)
+ * 진행 단계는 Redis 해시(USER_DELETION: userId -> 다음 단계)에 기록, 서버가 중간에 멈춰도 주기 작업이 이어서 처리
+ * 모든 단계는 다시 실행해도 결과가 같음 (이미 처리된 행은 조건에서 빠짐)
+ * 게시글/매핑 단계가 끝나면 소속 가족의 홈 화면 스냅샷 갱신 이벤트 발행
+ */
+@Slf4j
+@Component
+public class UserDeletionJob {
+    private static final String PROGRESS_KEY = "USER_DELETION";
+    // 단계 이름 -> 끝난 뒤 다시 계산할 홈 화면 부분
+    private static final Map<String, FamilyHomeSnapshot.Section> HOME_SECTIONS = Map.of(
+            "posts", FamilyHomeSnapshot.Section.POSTS,
+            "userFamilies", FamilyHomeSnapshot.Section.MEMBERS);
+
+    private final ThreadPoolTaskExecutor executor;
+    private final TransactionTemplate transactionTemplate;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final UserFamilyRepository userFamilyRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final List<Step> steps;
+
+    private final Set<Long> runningUserIds = ConcurrentHashMap.newKeySet();
+
+    @Value("${user.deletion.chunk-size:500}")
+    private int chunkSize;
+
+    public UserDeletionJob(@Qualifier("cleanupExecutor") ThreadPoolTaskExecutor executor,
+                           TransactionTemplate transactionTemplate,
+                           RedisTemplate<String, String> redisTemplate,
+                           ApplicationEventPublisher eventPublisher,
+                           CommentLoveWithUserRepository commentLoveWithUserRepository,
+                           PostLoveRepository postLoveRepository,
+                           CommentWithUserRepository commentWithUserRepository,
+                           PostWithUserRepository postWithUserRepository,
+                           UserFamilyRepository userFamilyRepository,
+                           SocialUserRepository socialUserRepository,
+                           AlarmSettingRepository alarmSettingRepository,
+                           CommentReportRepository commentReportRepository,
+                           PostReportRepository postReportRepository) {
+        this.executor = executor;
+        this.transactionTemplate = transactionTemplate;
+        this.redisTemplate = redisTemplate;
+        this.userFamilyRepository = userFamilyRepository;
+        this.eventPublisher = eventPublisher;
+        // 순서 변경 시 진행 중인 작업의 단계 번호가 어긋나므로 뒤에만 추가
+        this.steps = List.of(
+                new Step("commentLoves", commentLoveWithUserRepository::deactivateCommentLovesByUserId),
+                new Step("postLoves", postLoveRepository::deactivatePostLovesByUserId),
+                new Step("comments", commentWithUserRepository::clearWriterByUserId),
+                new Step("posts", postWithUserRepository::deactivatePostsByUserId),
+                new Step("userFamilies", userFamilyRepository::deactivateUserFamiliesByUserId),
+                new Step("socialInfos", socialUserRepository::deactivateSocialInfosByUserId),
+                new Step("alarmSettings", alarmSettingRepository::deactivateAlarmSettingsByUserId),
+                new Step("commentReports", commentReportRepository::clearReporterByUserId),
+                new Step("postReports", postReportRepository::clearReporterByUserId)
+        );
+    }
+
+    /**
+     * 탈퇴 트랜잭션이 커밋된 뒤 진행 상태를 기록하고 정리 시작
+     * (롤백되면 아무것도 하지 않음)
+     */
+    public void schedule(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    start(userId);
+                }
+            });
+            return;
+        }
+        start(userId);
+    }
+
+    /**
+     * 서버 재시작/실패/풀 포화 등으로 끝나지 않은 탈퇴 정리 이어서 처리 (10분마다)
+     */
+    @Scheduled(initialDelay = 60000, fixedDelayString = "${user.deletion.resume-interval:600000}")
+    public void resume() {
+        Map<Object, Object> pending = redisTemplate.opsForHash().entries(PROGRESS_KEY);
+        pending.forEach((userId, nextStep) ->
+                run(Long.valueOf((String) userId), Integer.parseInt((String) nextStep)));
+    }
+
+    private void start(Long userId) {
+        redisTemplate.opsForHash().putIfAbsent(PROGRESS_KEY, userId.toString(), "0");
+        // 풀이 가득 차서 버려져도 진행 상태가 남아있으므로 resume 에서 처리
+        executor.execute(() -> {
+            Object nextStep = redisTemplate.opsForHash().get(PROGRESS_KEY, userId.toString());
+            if (nextStep != null) {
+                run(userId, Integer.parseInt((String) nextStep));
+            }
+        });
+    }
+
+    private void run(Long userId, int fromStep) {
+        // 이벤트와 주기 작업이 같은 유저를 동시에 처리하지 않도록
+        if (!runningUserIds.add(userId)) {
+            return;
+        }
+        try {
+            for (int i = Math.max(0, fromStep); i < steps.size(); i++) {
+                Step step = steps.get(i);
+                int updated = updateInChunks(userId, step);
+                redisTemplate.opsForHash().put(PROGRESS_KEY, userId.toString(), String.valueOf(i + 1));
+                log.debug("User {} deletion step {} - {} rows", userId, step.name, updated);
+                publishHomeEvents(userId, HOME_SECTIONS.get(step.name));
+            }
+            redisTemplate.opsForHash().delete(PROGRESS_KEY, userId.toString());
+            log.info("User {} deletion cleanup finished.", userId);
+        } catch (Exception e) {
+            log.error("User {} deletion cleanup stopped, will resume later", userId, e);
+        } finally {
+            runningUserIds.remove(userId);
+        }
+    }
+
+    // 트랜잭션 밖이므로 FamilyHomeSnapshotService 가 바로 처리 (fallbackExecution)
+    private void publishHomeEvents(Long userId, FamilyHomeSnapshot.Section section) {
+        if (section == null) {
+            return;
+        }
+        for (Object[] membership : userFamilyRepository.findMembershipsByUserId(userId)) {
+            eventPublisher.publishEvent(new FamilyHomeEvent((Long) membership[0], section));
+        }
+    }
+
+    // 처리한 행이 chunk 보다 적을 때까지 반복
+    private int updateInChunks(Long userId, Step step) {
+        int total = 0;
+        int updated;
+        do {
+            Integer result = transactionTemplate.execute(status -> step.update.apply(userId, chunkSize));
+            updated = result == null ? 0 : result;
+            total += updated;
+        } while (updated >= chunkSize);
+        return total;
+    }
+
+    @AllArgsConstructor
+    private static class Step {
+        private final String name;
+        private final BiFunction<Long, Integer, Integer> update;
+    }
+}
@@ -1,5 +1,6 @@
 package com.spring.familymoments.domain.user;
 
+import com.spring.familymoments.domain.user.entity.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -12,13 +13,20 @@ public class UserDetailsService implements org.springframework.security.core.use
      * springsecurity에서 유저를 찾는 메소드를 제공하는 UserDetailsService를 implements
      * loadUserByUsername 메소드를 오버라이딩 하여 유저를 찾는 방법을 직접 지정함.
      * 이 메소드의 username == '사용자 uuid'
-     *
+     * 조회한 유저는 PrincipalCache 에 TTL 동안 보관
      */
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        return userRepository.findUserByUuid(username)
+        User cachedUser = principalCache.get(username);
+        if(cachedUser != null) {
+            return cachedUser;
+        }
+        User user = userRepository.findUserByUuid(username)
                 .orElseThrow(() -> new UsernameNotFoundException("[UserDetailService] 사용자를 찾을 수 없습니다."));
+        principalCache.put(user);
+        return user;
     }
 
 }
@@ -0,0 +1,50 @@
+package com.spring.familymoments.domain.user;
+
+import com.spring.familymoments.domain.user.model.UserExportRes;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * 전체 회원정보 내보내기
+ * 엔티티를 만들지 않고 행을 바로 DTO 로 변환, MySQL 스트리밍 조회(forward-only, fetch size MIN_VALUE)라
+ * 회원 수와 관계없이 한 행씩만 메모리에 올라감
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserExportDao {
+    private static final String SELECT_SQL = "SELECT userId, id, email, name, nickname, birthDate, profileImg, status, createdAt " +
+            "FROM User ORDER BY userId";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void forEachUser(Consumer<UserExportRes> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(SELECT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(Integer.MIN_VALUE);
+            return ps;
+        }, (RowCallbackHandler) rs -> {
+            consumer.accept(new UserExportRes(
+                    rs.getLong("userId"),
+                    rs.getString("id"),
+                    rs.getString("email"),
+                    rs.getString("name"),
+                    rs.getString("nickname"),
+                    toLocalDateTime(rs.getTimestamp("birthDate")),
+                    rs.getString("profileImg"),
+                    rs.getString("status"),
+                    toLocalDateTime(rs.getTimestamp("createdAt"))));
+        });
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+}
@@ -0,0 +1,150 @@
+package com.spring.familymoments.domain.user;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+/**
+ * 유저 검색(아이디 앞부분 일치)용 메모리 인덱스
+ * 소문자 아이디 -> 아이디 를 정렬된 상태로 보관, 접두어 위치부터 limit 개만 읽음
+ *
+ * 시작 시 User 테이블을 스트리밍해서 생성, 가입 시 추가 (user-registration 채널 구독, 다른 서버 가입 포함)
+ * 탈퇴 시 커밋 후 user-withdrawal 채널로 발행 -> 모든 서버에서 제거 (검색 결과는 DB 에서 한 번 더 ACTIVE 확인)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserIdPrefixIndex implements MessageListener {
+    public static final String WITHDRAWAL_CHANNEL = "user-withdrawal";
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private volatile ConcurrentSkipListMap<String, String> ids;        // 생성 전에는 null -> DB 검색
+    private volatile ConcurrentSkipListMap<String, String> rebuilding; // 재생성 중 가입한 아이디도 새 인덱스에 반영
+
+    public boolean isReady() {
+        return ids != null;
+    }
+
+    /**
+     * prefix 로 시작하는 아이디를 사전 순으로 최대 limit 개
+     */
+    public List<String> search(String prefix, int limit) {
+        List<String> result = new ArrayList<>(limit);
+        ConcurrentSkipListMap<String, String> current = ids;
+        if (current == null || prefix == null || prefix.isBlank()) {
+            return result;
+        }
+        String normalized = normalize(prefix);
+        for (Map.Entry<String, String> entry : current.tailMap(normalized).entrySet()) {
+            if (result.size() >= limit || !entry.getKey().startsWith(normalized)) {
+                break;
+            }
+            result.add(entry.getValue());
+        }
+        return result;
+    }
+
+    /**
+     * 탈퇴한 아이디 제거 - 커밋 후 모든 서버(이 서버 포함)에 발행
+     */
+    public void remove(String id) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    redisTemplate.convertAndSend(WITHDRAWAL_CHANNEL, id);
+                }
+            });
+            return;
+        }
+        redisTemplate.convertAndSend(WITHDRAWAL_CHANNEL, id);
+    }
+
+    private void removeLocal(String id) {
+        ConcurrentSkipListMap<String, String> current = ids;
+        if (current != null) {
+            current.remove(normalize(id));
+        }
+        ConcurrentSkipListMap<String, String> next = rebuilding;
+        if (next != null) {
+            next.remove(normalize(id));
+        }
+    }
+
+    // 가입한 아이디(UserAvailabilityFilter.register 가 발행) / 탈퇴한 아이디 수신, 이 서버 포함
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Object body = redisTemplate.getValueSerializer().deserialize(message.getBody());
+        if (body == null) {
+            return;
+        }
+        if (WITHDRAWAL_CHANNEL.equals(new String(message.getChannel(), StandardCharsets.UTF_8))) {
+            removeLocal((String) body);
+            return;
+        }
+        String[] idAndEmail = ((String) body).split(UserAvailabilityFilter.DELIMITER, 2);
+        add(idAndEmail[0]);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        rebuild();
+    }
+
+    /**
+     * ACTIVE 유저 아이디로 인덱스 재생성 (매일 새벽 4시)
+     */
+    @Scheduled(cron = "0 0 4 * * *")
+    public void rebuild() {
+        ConcurrentSkipListMap<String, String> next = new ConcurrentSkipListMap<>();
+        rebuilding = next;
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<Object[]> rows = userRepository.streamActiveIdAndEmail()) {
+                    rows.forEach(row -> next.put(normalize((String) row[0]), (String) row[0]));
+                }
+            });
+            ids = next;
+            log.info("User id prefix index built - {} ids.", next.size());
+        } catch (Exception e) {
+            log.error("Failed to build user id prefix index", e);
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    private void add(String id) {
+        ConcurrentSkipListMap<String, String> current = ids;
+        if (current != null) {
+            current.put(normalize(id), id);
+        }
+        ConcurrentSkipListMap<String, String> next = rebuilding;
+        if (next != null) {
+            next.put(normalize(id), id);
+        }
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+}
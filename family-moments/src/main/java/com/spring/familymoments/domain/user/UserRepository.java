@@ -7,11 +7,17 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -35,6 +41,27 @@ public interface UserRepository extends JpaRepository<User, Long> {
 //    boolean existsByNameAndEmail(String name, String email);
 //    boolean existsByIdAndStatus(String id, User.Status Status);
 
+    // 아이디/이메일 중복 확인 (엔티티를 불러오지 않음)
+    @Query("SELECT CASE WHEN COUNT(u) > 0 THEN true ELSE false END FROM User u WHERE u.id = :id " +
+            "AND u.status = 'ACTIVE' ")
+    boolean existsActiveById(@Param("id") String id);
+
+    @Query("SELECT CASE WHEN COUNT(u) > 0 THEN true ELSE false END FROM User u WHERE u.email = :email " +
+            "AND u.status = 'ACTIVE' ")
+    boolean existsActiveByEmail(@Param("email") String email);
+
+    // 아이디/이메일 필터 생성용 (MySQL 스트리밍 조회)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT u.id, u.email FROM User u WHERE u.status = 'ACTIVE' ")
+    Stream<Object[]> streamActiveIdAndEmail();
+
+    // 이전 형식 FCM 토큰 이전용 (탈퇴 회원 포함, userId 구간 (fromId, toId])
+    @Query("SELECT u.id, u.email, u.status FROM User u WHERE u.userId > :fromId AND u.userId <= :toId")
+    List<Object[]> findIdAndEmailAndStatusByUserIdRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Query("SELECT COALESCE(MAX(u.userId), 0) FROM User u")
+    Long findMaxUserId();
+
     @Query("SELECT u FROM User u WHERE u.email = :email AND u.name = :name " +
             "AND u.status = 'ACTIVE' ")
     Optional<User> findByNameAndEmail(@Param("name") String name, @Param ("email")String email);
@@ -43,12 +70,28 @@ public interface UserRepository extends JpaRepository<User, Long> {
             "AND u.status = 'ACTIVE' ")
     Optional<User> findByEmail(@Param("email") String email);
 
-    //유저 검색
-    @Query("SELECT u FROM User u WHERE u.id LIKE :keyword% AND u.status = 'ACTIVE' ORDER BY u.id ASC ")
-    List<User> searchUserByKeyword(String keyword);
-    @Query("SELECT u, uf FROM User u LEFT JOIN UserFamily uf ON u.userId = uf.userId.userId " +
-            "WHERE (uf.familyId.familyId = :familyId) AND (u.userId = :userId) AND u.status = 'ACTIVE' AND uf.status = 'ACTIVE' ")
-    List<Object[]> findUsersByFamilyIdAndUserId(Long familyId, Long userId);
+    // 유저 검색 + 초대 가능 여부 (아이디, 프로필 이미지, 가족에 ACTIVE/DEACCEPT 매핑이 없으면 1)
+    @Query("SELECT u.id, u.profileImg, CASE WHEN COUNT(uf) = 0 THEN 1 ELSE 0 END FROM User u " +
+            "LEFT JOIN UserFamily uf ON uf.userId = u AND uf.familyId.familyId = :familyId " +
+            "AND uf.status IN ('ACTIVE', 'DEACCEPT') " +
+            "WHERE u.id IN :ids AND u.userId <> :loginUserId AND u.status = 'ACTIVE' " +
+            "GROUP BY u.userId, u.id, u.profileImg ORDER BY u.id ASC ")
+    List<Object[]> findSearchUsersByIdIn(@Param("ids") Collection<String> ids, @Param("familyId") Long familyId,
+                                         @Param("loginUserId") Long loginUserId);
+
+    // 아이디 인덱스가 준비되기 전 검색 (LIKE, 개수 제한)
+    @Query("SELECT u.id, u.profileImg, CASE WHEN COUNT(uf) = 0 THEN 1 ELSE 0 END FROM User u " +
+            "LEFT JOIN UserFamily uf ON uf.userId = u AND uf.familyId.familyId = :familyId " +
+            "AND uf.status IN ('ACTIVE', 'DEACCEPT') " +
+            "WHERE u.id LIKE :keyword% AND u.userId <> :loginUserId AND u.status = 'ACTIVE' " +
+            "GROUP BY u.userId, u.id, u.profileImg ORDER BY u.id ASC ")
+    List<Object[]> searchUsersByKeyword(@Param("keyword") String keyword, @Param("familyId") Long familyId,
+                                        @Param("loginUserId") Long loginUserId, Pageable pageable);
 
     User findByNickname(String nickname);
-}
\ No newline at end of file
+
+    // 여러 아이디의 ACTIVE 유저 번호 조회 (가족 강제 탈퇴)
+    @Query("SELECT u.userId FROM User u WHERE u.id IN :ids " +
+            "AND u.status = 'ACTIVE' ")
+    List<Long> findActiveUserIdsByIdIn(@Param("ids") Collection<String> ids);
+}
@@ -1,42 +1,39 @@
 package com.spring.familymoments.domain.user;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.spring.familymoments.config.BaseException;
 import com.spring.familymoments.config.secret.jwt.JwtService;
-import com.spring.familymoments.domain.alarmSetting.AlarmSettingRepository;
 import com.spring.familymoments.domain.alarmSetting.AlarmSettingService;
-import com.spring.familymoments.domain.alarmSetting.entity.AlarmSetting;
-import com.spring.familymoments.domain.comment.CommentReportRepository;
-import com.spring.familymoments.domain.comment.CommentWithUserRepository;
-import com.spring.familymoments.domain.comment.entity.Comment;
-import com.spring.familymoments.domain.comment.entity.CommentReport;
-import com.spring.familymoments.domain.commentLove.CommentLoveWithUserRepository;
-import com.spring.familymoments.domain.commentLove.entity.CommentLove;
 import com.spring.familymoments.domain.common.BaseEntity;
 import com.spring.familymoments.domain.common.UserFamilyRepository;
 import com.spring.familymoments.domain.common.entity.UserFamily;
+import com.spring.familymoments.domain.family.FamilyMembershipCache;
 import com.spring.familymoments.domain.family.FamilyRepository;
 import com.spring.familymoments.domain.family.entity.Family;
+import com.spring.familymoments.domain.family.model.FamilyHomeEvent;
+import com.spring.familymoments.domain.family.model.FamilyHomeSnapshot;
 import com.spring.familymoments.domain.fcm.FCMService;
-import com.spring.familymoments.domain.post.PostReportRepository;
+import com.spring.familymoments.domain.post.PostCountReconciliationJob;
 import com.spring.familymoments.domain.post.PostWithUserRepository;
-import com.spring.familymoments.domain.post.entity.Post;
-import com.spring.familymoments.domain.post.entity.PostReport;
-import com.spring.familymoments.domain.postLove.PostLoveRepository;
-import com.spring.familymoments.domain.postLove.entity.PostLove;
 import com.spring.familymoments.domain.redis.RedisService;
 import com.spring.familymoments.domain.socialInfo.*;
-import com.spring.familymoments.domain.socialInfo.entity.SocialInfo;
 import com.spring.familymoments.domain.socialInfo.model.GoogleDeleteDto;
 import com.spring.familymoments.domain.user.model.*;
 import com.spring.familymoments.domain.user.entity.User;
 import com.spring.familymoments.utils.UuidUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -48,32 +45,36 @@ import java.util.Optional;
 
 import static com.spring.familymoments.config.BaseResponseStatus.*;
 import static com.spring.familymoments.domain.common.BaseEntity.Status.INACTIVE;
-import static com.spring.familymoments.domain.common.entity.UserFamily.Status.ACTIVE;
-import static com.spring.familymoments.domain.common.entity.UserFamily.Status.DEACCEPT;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserService {
+    private static final int SEARCH_LIMIT = 5;     // 유저 검색 최대 개수
+    private static final int INVITATION_PAGE_SIZE = 20;     // 초대 리스트 한 번에 조회하는 개수
+
 
     private final UserRepository userRepository;
     private final PostWithUserRepository postWithUserRepository;
+    private final PostCountReconciliationJob postCountReconciliationJob;
     private final FamilyRepository familyRepository;
-    private final CommentWithUserRepository commentWithUserRepository;
+    private final FamilyMembershipCache familyMembershipCache;
     private final UserFamilyRepository userFamilyRepository;
-    private final CommentLoveWithUserRepository commentLoveWithUserRepository;
-    private final PostLoveRepository postLoveRepository;
     private final JwtService jwtService;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final RedisService redisService;
+    private final TokenRevocationService tokenRevocationService;
+    private final PrincipalCache principalCache;
+    private final RefreshTokenStore refreshTokenStore;
+    private final UserAvailabilityFilter userAvailabilityFilter;
+    private final UserIdPrefixIndex userIdPrefixIndex;
+    private final UserExportDao userExportDao;
+    private final ObjectMapper objectMapper;
+    private final UserDeletionJob userDeletionJob;
     private final AlarmSettingService alarmSettingService;
 
-    private final PostReportRepository postReportRepository;
-    private final CommentReportRepository commentReportRepository;
-    private final SocialUserRepository socialUserRepository;
-    private final AlarmSettingRepository alarmSettingRepository;
-
     private final FCMService fcmService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * createUser
@@ -106,7 +107,7 @@ public class UserService {
                 .id(postUserReq.getId())
                 .uuid(uuid)
                 .email(postUserReq.getEmail())
-                .password(passwordEncoder.encode(postUserReq.getPassword()))
+                .password(passwordHashingService.encode(postUserReq.getPassword()))
                 .name(postUserReq.getName())
                 .nickname(postUserReq.getNickname())
                 .birthDate(parsedBirthDate)
@@ -115,6 +116,7 @@ public class UserService {
                 .build();
         userRepository.save(user);
         alarmSettingService.createAlarmSetting(user);   // 알림 ON으로 설정(채팅알림, 업로드주기알림, 포스팅알림)
+        userAvailabilityFilter.register(user.getId(), user.getEmail());
 
         return new PostUserRes(user.getEmail(), user.getNickname(), user.getProfileImg());
     }
@@ -143,8 +145,19 @@ public class UserService {
      * @return 이미 가입된 아이디면 -> true, 그렇지 않으면 -> false
      */
     public boolean checkDuplicateIdByStatus(String userId) {
-        Optional<User> activeUser = userRepository.findById(userId);
-        return activeUser.isPresent();
+        return userRepository.existsActiveById(userId);
+    }
+
+    /**
+     * 아이디 사용 가능 여부 확인 (중복 확인 API 전용)
+     * 필터에 없으면 DB 조회 없이 사용 가능으로 응답
+     * 다른 서버의 가입이 늦게 반영될 수 있으므로 가입/비밀번호 재설정 등은 checkDuplicateIdByStatus 사용
+     */
+    public boolean checkDuplicateIdWithFilter(String userId) {
+        if(!userAvailabilityFilter.mightContainId(userId)) {
+            return false;
+        }
+        return userRepository.existsActiveById(userId);
     }
 
 //    /**
@@ -176,8 +189,18 @@ public class UserService {
      * @return
      */
     public boolean checkDuplicateEmailByStatus(String email) {
-        Optional<User> activeUser = userRepository.findByEmail(email);
-        return activeUser.isPresent();
+        return userRepository.existsActiveByEmail(email);
+    }
+
+    /**
+     * 이메일 사용 가능 여부 확인 (중복 확인 API 전용)
+     * 필터에 없으면 DB 조회 없이 사용 가능으로 응답
+     */
+    public boolean checkDuplicateEmailWithFilter(String email) {
+        if(!userAvailabilityFilter.mightContainEmail(email)) {
+            return false;
+        }
+        return userRepository.existsActiveByEmail(email);
     }
 
 
@@ -188,9 +211,18 @@ public class UserService {
      */
     public GetProfileRes readProfile(User user, Long familyId) {
         Long totalUpload = 0L;
-        if(familyId != null) {
+        if(familyId != null && !postCountReconciliationJob.isBackfilled()) {
+            //postCount 를 채우기 전에는 COUNT
             Family family = familyRepository.findById(familyId).orElseThrow(() -> new BaseException(FIND_FAIL_FAMILY));
             totalUpload = postWithUserRepository.countActivePostsByWriterAndFamily(user, family);
+        } else if(familyId != null) {
+            //가족-유저 매핑에 저장된 업로드 수 (매번 COUNT 하지 않음)
+            List<Integer> postCounts = userFamilyRepository.findPostCountByUserIdAndFamilyId(user.getUserId(), familyId);
+            if(!postCounts.isEmpty()) {
+                totalUpload = (long) postCounts.get(0);
+            } else if(!familyRepository.existsById(familyId)) {
+                throw new BaseException(FIND_FAIL_FAMILY);
+            }
         }
 
         String formatPattern = "yyyyMMdd"; //생년월일
@@ -208,43 +240,34 @@ public class UserService {
      * [GET] /users
      * @return
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public List<GetSearchUserRes> searchUserById(String keyword, Long familyId, User loginUser) {
-        List<GetSearchUserRes> getSearchUserResList = new ArrayList<>();
-
-        List<User> keywordUserList = userRepository.searchUserByKeyword(keyword);
-        for(User keywordUser: keywordUserList) {
-            Long checkUserId = keywordUser.getUserId();
-            int appear = 1;
+        if(keyword == null || keyword.isBlank()) {
+            return new ArrayList<>();
+        }
 
-            //로그인한 유저 제외
-            if(loginUser.getUserId() == checkUserId) {
-                continue;
+        //초대 가능 여부(현재 가족에 이미 초대 당하거나 대기 중이면 0)는 같은 쿼리에서 계산
+        List<Object[]> results;
+        if(userIdPrefixIndex.isReady()) {
+            //로그인한 유저가 포함될 수 있으므로 하나 더 조회
+            List<String> ids = userIdPrefixIndex.search(keyword, SEARCH_LIMIT + 1);
+            if(ids.isEmpty()) {
+                return new ArrayList<>();
             }
+            results = userRepository.findSearchUsersByIdIn(ids, familyId, loginUser.getUserId());
+        } else {
+            results = userRepository.searchUsersByKeyword(keyword, familyId, loginUser.getUserId(), PageRequest.of(0, SEARCH_LIMIT));
+        }
 
-            //현재 가족과 관련된 유저들
-            List<Object[]> results = userRepository.findUsersByFamilyIdAndUserId(familyId, checkUserId);
-            for(Object[] result : results) {
-                UserFamily userFamily = (UserFamily) result[1];
-                if (userFamily == null) {
-                    continue;
-                }
-                //현재 가족에 이미 초대 당하거나 대기 중일 때 비활성화
-                if(userFamily.getStatus() == ACTIVE || userFamily.getStatus() == DEACCEPT) {
-                    appear = 0;
-                    break;
-                }
+        List<GetSearchUserRes> getSearchUserResList = new ArrayList<>();
+        for(Object[] result : results) {
+            if(getSearchUserResList.size() >= SEARCH_LIMIT) {
+                break;
             }
-
             getSearchUserResList.add(
-                    GetSearchUserRes.of(
-                            keywordUser.getId(),
-                            keywordUser.getProfileImg(),
-                            appear
-                    )
+                    GetSearchUserRes.of((String) result[0], (String) result[1], ((Number) result[2]).intValue())
             );
         }
-
         return getSearchUserResList;
     }
     /**
@@ -253,26 +276,13 @@ public class UserService {
      * @return List<GetInvitationRes>: 회원이 받은 초대 요청 리스트
      */
     @Transactional(readOnly = true)
-    public List<GetInvitationRes> getInvitationList(User loginUser){
-        List<GetInvitationRes> getInvitationResList = new ArrayList<>();
-        List<UserFamily> userFamilyList = userFamilyRepository.findAllByUserIdOrderByCreatedAtDesc(loginUser);
-
-//        // TODO: 받은 초대가 없을 경우 예외처리
-//        if (userFamilyList.isEmpty()) {
-//            throw new InternalServerErrorException("초대 요청이 존재하지 않습니다.");
-//        } else {
-        for (UserFamily invitation : userFamilyList) {
-            GetInvitationRes getInvitationRes = new GetInvitationRes(invitation.getFamilyId().getFamilyName(),
-                    // invitation.getFamilyId().getOwner().getNickname(),
-                    // invitation.getFamilyId().getOwner().getProfileImg());
-                    invitation.getInviteUserId().getNickname(),
-                    invitation.getInviteUserId().getProfileImg());
-
-            getInvitationResList.add(getInvitationRes);
+    public List<GetInvitationRes> getInvitationList(User loginUser, LocalDateTime invitedAt, Long invitationId){
+        //가족 이름, 초대한 회원 닉네임/프로필 이미지를 쿼리 한 번으로 조회 (커서 둘 중 하나라도 없으면 첫 페이지)
+        if (invitedAt == null || invitationId == null) {
+            invitedAt = null;
         }
-//        }
-
-        return getInvitationResList;
+        return userFamilyRepository.findInvitationsByUserId(loginUser.getUserId(), invitedAt, invitationId,
+                PageRequest.of(0, INVITATION_PAGE_SIZE));
     }
     /**
      * 회원 정보 수정 API
@@ -282,6 +292,11 @@ public class UserService {
     public PatchProfileReqRes updateProfile(PatchProfileReqRes patchProfileReqRes, User user) {
         user.updateProfile(patchProfileReqRes);
         User updatedUser = userRepository.save(user);
+        principalCache.evict(user.getUuid());
+        // 가족 홈 스냅샷의 구성원 닉네임/프로필 이미지 갱신
+        for (Family family : familyRepository.findActiveFamilyByUserId(user)) {
+            eventPublisher.publishEvent(new FamilyHomeEvent(family.getFamilyId(), FamilyHomeSnapshot.Section.MEMBERS));
+        }
 
         String formatPattern = "yyyyMMdd";
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern(formatPattern);
@@ -298,7 +313,7 @@ public class UserService {
         if(getPwdReq.getPassword().isEmpty()) {
             throw new BaseException(EMPTY_PASSWORD);
         }
-        return passwordEncoder.matches(getPwdReq.getPassword(), user.getPassword());
+        return passwordHashingService.matches(getPwdReq.getPassword(), user.getPassword());
     }
     /**
      * 비밀번호 변경(마이페이지) API
@@ -306,8 +321,9 @@ public class UserService {
      * @return
      */
     public void updatePassword(PatchPwdReq patchPwdReq, User user) {
-        user.updatePassword(passwordEncoder.encode(patchPwdReq.getNewPassword()));
+        user.updatePassword(passwordHashingService.encode(patchPwdReq.getNewPassword()));
         userRepository.save(user);
+        principalCache.evict(user.getUuid());
     }
     /**
      * 비밀번호 재설정 API
@@ -316,16 +332,31 @@ public class UserService {
      */
     public void updatePasswordWithoutLogin(PatchPwdWithoutLoginReq patchPwdWithoutLoginReq, String id) throws BaseException {
         User user = userRepository.findById(id).orElseThrow(() -> new BaseException(FIND_FAIL_USER_ID));
-        user.updatePassword(passwordEncoder.encode(patchPwdWithoutLoginReq.getPasswordA()));
+        user.updatePassword(passwordHashingService.encode(patchPwdWithoutLoginReq.getPasswordA()));
         userRepository.save(user);
+        principalCache.evict(user.getUuid());
     }
     /**
      * 전체 회원정보 조회 API / 화면 외 API
      * [GET]
-     * @return
+     * 한 줄에 한 명씩 JSON 으로 바로 출력 (NDJSON), 전체 목록을 메모리에 올리지 않음
      */
-    public List<User> getAllUser() {
-        return userRepository.findAll();
+    public void exportAllUsers(OutputStream outputStream) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(UserExportRes.class);
+        BufferedOutputStream out = new BufferedOutputStream(outputStream);
+        try {
+            userExportDao.forEachUser(user -> {
+                try {
+                    out.write(writer.writeValueAsBytes(user));
+                    out.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();     // 클라이언트 연결 종료 등
+        }
+        out.flush();
     }
 
     /**
@@ -351,6 +382,8 @@ public class UserService {
                         //가족 삭제 후 탈퇴 진행
                         family.updateStatus(INACTIVE);
                         familyRepository.save(family);
+                        familyMembershipCache.evictFamily(family.getFamilyId());
+                        eventPublisher.publishEvent(new FamilyHomeEvent(family.getFamilyId(), FamilyHomeSnapshot.Section.FAMILY));
                         continue;
                     }
                     //생성자 권한을 다른 사람에게 넘겨야 탈퇴 가능
@@ -362,80 +395,32 @@ public class UserService {
     }
 
     public void commonDeleteProcess(User user) {
-        Long userId = user.getUserId();
-
-        //2) 로그인 유저의 댓글 좋아요 일괄 INACTIVE
-        List<CommentLove> commentLoves = commentLoveWithUserRepository.findCommentLovesByUserId(userId);
-        for(CommentLove commentLove : commentLoves) {
-            commentLove.updateStatus(INACTIVE);
-        }
-
-        //3) 로그인 유저의 게시글 좋아요 일괄 INACTIVE
-        List<PostLove> postLoves = postLoveRepository.findPostLovesByUserId(userId);
-        for(PostLove postLove : postLoves) {
-            postLove.updateStatus(INACTIVE);
-        }
-
-        //4) 로그인 유저의 댓글 '알수없음' 처리 (일괄 INACTIVE)
-        List<Comment> comments = commentWithUserRepository.findCommentsByUserId(userId);
-        for(Comment comment : comments) {
-            comment.updateWriter();
-        }
-
-        //5) 로그인 유저의 게시글 일괄 INACTIVE
-        List<Post> posts = postWithUserRepository.findPostByUserId(userId);
-        for(Post post : posts) {
-            post.updateStatus(INACTIVE);
-        }
-
-        //6) 로그인 유저의 참여한 유저가족매핑 일괄 INACTIVE
-        List<UserFamily> userFamilyList = userFamilyRepository.findUserFamilyByUserId(userId);
-        for(UserFamily userFamily : userFamilyList) {
-            userFamily.updateStatus(UserFamily.Status.INACTIVE);
-        }
-
-        //7) 소셜 정보 INACTIVE
-        List<SocialInfo> socialInfos = socialUserRepository.findSocialInfoByUser(user);
-        if(!socialInfos.isEmpty()) {
-            for (SocialInfo socialInfo : socialInfos) {
-                socialInfo.updateStatus(INACTIVE);
-            }
-        }
-
-        //8) 알람 세팅 INACTIVE
-        List<AlarmSetting> alarmSettingList = alarmSettingRepository.findAlarmSettingByUser(user);
-        for(AlarmSetting alarmSetting : alarmSettingList) {
-            alarmSetting.setStatus(INACTIVE);
-        }
+        //2) 로그인 유저 INACTIVE
+        user.updateStatus(User.Status.INACTIVE);
+        userRepository.save(user);
+        principalCache.evict(user.getUuid());
+        familyMembershipCache.evict(user.getUserId());
 
-        //9) 게시글, 댓글 신고 관련 user null 처리 (탈퇴한 유저가 신고했던 내용만 남기기) -
-        List<CommentReport> commentReportList = commentReportRepository.findCommentReportByUser(user);
-        for(CommentReport commentReport : commentReportList) {
-            commentReport.updateUser();
-        }
-        List<PostReport> postReportList = postReportRepository.findPostReportByUser(user);
-        for(PostReport postReport : postReportList) {
-            postReport.updateUser();
+        //2-1) 소속 가족 홈 화면 구성원 목록 갱신 (게시글 요약은 UserDeletionJob 에서 게시글 비활성화 후 갱신)
+        for (Object[] membership : userFamilyRepository.findMembershipsByUserId(user.getUserId())) {
+            eventPublisher.publishEvent(new FamilyHomeEvent((Long) membership[0], FamilyHomeSnapshot.Section.MEMBERS));
         }
 
-        //10) 로그인 유저 INACTIVE
-        user.updateStatus(User.Status.INACTIVE);
-        userRepository.save(user);
+        //3) 좋아요/댓글/게시글/가족 매핑/소셜 정보/알람 세팅/신고 내역은 커밋 후 UserDeletionJob 에서 일괄 처리
+        userDeletionJob.schedule(user.getUserId());
+        userIdPrefixIndex.remove(user.getId());
     }
 
     @Transactional
     public void deleteUserWithRedisProcess(User user, String requestAccessToken) {
         this.deleteUser(user);
         //Redis에 저장되어 있는 RT 삭제
-        String refreshTokenInRedis = redisService.getValues("RT(" + "SERVER" + "):" + user);
-        if(refreshTokenInRedis != null) {
-            redisService.deleteValues("RT(" + "SERVER" + "):" + user);
-        }
-        //Redis에 탈퇴 처리한 AT 저장
+        refreshTokenStore.delete("Server", user.getUuid());
+        //탈퇴 처리한 AT 폐기 (토큰 id 만 저장)
         long expiration = jwtService.getTokenExpirationTime(requestAccessToken) - new Date().getTime();
-        redisService.setValuesWithTimeout(requestAccessToken, "delete", expiration);
+        tokenRevocationService.revoke(requestAccessToken, "delete", expiration);
 
-        fcmService.deleteToken(user.getId());     // FCM Token 삭제
+        fcmService.deleteTokens(user.getId());     // 모든 기기의 FCM Token 삭제
     }
 
     @Transactional
@@ -452,6 +437,7 @@ public class UserService {
         //신고 횟수 업데이트
         toUser.updateReported(toUser.getReported() + 1);
         userRepository.save(toUser);
+        principalCache.evict(toUser.getUuid());
     }
 
     @Transactional
@@ -466,6 +452,8 @@ public class UserService {
             for(UserFamily uf1 : uf) {
                 uf1.updateStatus(UserFamily.Status.INACTIVE);
             }
+            familyMembershipCache.evictFamily(family.getFamilyId());
+            eventPublisher.publishEvent(new FamilyHomeEvent(family.getFamilyId(), FamilyHomeSnapshot.Section.FAMILY));
         }
         commonDeleteProcess(user);
     }
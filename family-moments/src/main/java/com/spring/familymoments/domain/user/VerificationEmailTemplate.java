@@ -0,0 +1,42 @@
+package com.spring.familymoments.domain.user;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 본인 인증 메일 템플릿 (templates/verification-email.html)
+ * 시작 시 한 번 읽어서 인증번호 자리를 기준으로 나눠두고, 전송할 때는 이어붙이기만 함
+ */
+@Component
+public class VerificationEmailTemplate {
+    private static final String TEMPLATE_PATH = "templates/verification-email.html";
+    private static final String CODE_PLACEHOLDER = "{{code}}";
+
+    private String prefix;
+    private String suffix;
+
+    @PostConstruct
+    public void load() throws IOException {
+        String template;
+        try (InputStream inputStream = new ClassPathResource(TEMPLATE_PATH).getInputStream()) {
+            template = StreamUtils.copyToString(inputStream, StandardCharsets.UTF_8);
+        }
+        int placeholder = template.indexOf(CODE_PLACEHOLDER);
+        prefix = template.substring(0, placeholder);
+        suffix = template.substring(placeholder + CODE_PLACEHOLDER.length());
+    }
+
+    public String render(String verificationCode) {
+        return new StringBuilder(prefix.length() + verificationCode.length() + suffix.length())
+                .append(prefix)
+                .append(verificationCode)
+                .append(suffix)
+                .toString();
+    }
+}
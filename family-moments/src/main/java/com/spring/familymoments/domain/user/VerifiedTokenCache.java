@@ -0,0 +1,61 @@
+package com.spring.familymoments.domain.user;
+
+import com.spring.familymoments.utils.SHA256;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 서명 검증이 끝난 AccessToken 캐시
+ * 토큰 해시 -> (principal, 만료 시각). 같은 토큰은 만료 전까지 다시 파싱하지 않음
+ * 최대 크기를 넘으면 가장 오래 사용하지 않은 토큰부터 제거 (LRU)
+ */
+@Component
+public class VerifiedTokenCache {
+    @Value("${jwt.verified-cache.max-size:10000}")
+    private int maxSize;
+
+    private final Map<String, VerifiedToken> cache = Collections.synchronizedMap(
+            new LinkedHashMap<String, VerifiedToken>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+                    return size() > maxSize;
+                }
+            });
+
+    /**
+     * @return 캐시된 principal, 없거나 만료된 경우 null
+     */
+    public String getPrincipal(String accessToken) {
+        String key = SHA256.encrypt(accessToken);
+        VerifiedToken verifiedToken = cache.get(key);
+        if (verifiedToken == null) {
+            return null;
+        }
+        if (verifiedToken.getExpiresAt() <= System.currentTimeMillis()) {
+            cache.remove(key);
+            return null;
+        }
+        return verifiedToken.getPrincipal();
+    }
+
+    public void put(String accessToken, String principal, long expiresAt) {
+        cache.put(SHA256.encrypt(accessToken), new VerifiedToken(principal, expiresAt));
+    }
+
+    public void evict(String accessToken) {
+        cache.remove(SHA256.encrypt(accessToken));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class VerifiedToken {
+        private String principal;
+        private long expiresAt;   // 토큰 만료 시각(epoch ms)
+    }
+}
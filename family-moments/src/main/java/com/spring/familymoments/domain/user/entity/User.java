@@ -86,6 +86,18 @@ public class User extends BaseTime implements UserDetails {
         this.profileImg = profileImg;
         this.status = status;
     }
+    /**
+     * 저장된 값으로 새 (영속성 컨텍스트 밖의) 유저 생성
+     * PrincipalCache 가 요청마다 별도 인스턴스를 돌려주기 위해 사용
+     */
+    public static User restore(Long userId, String id, String uuid, String email, String password, String name,
+                               String nickname, LocalDateTime birthDate, String profileImg, Status status, int reported,
+                               LocalDateTime createdAt, LocalDateTime updatedAt) {
+        User user = new User(userId, id, uuid, email, password, name, nickname, birthDate, profileImg, status, reported);
+        user.restoreTimestamps(createdAt, updatedAt);
+        return user;
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         List<GrantedAuthority> authorities = new ArrayList<>();
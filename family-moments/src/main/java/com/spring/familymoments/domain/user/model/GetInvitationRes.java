@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -16,4 +18,8 @@ public class GetInvitationRes {
     private String nickname;
     @Schema(description = "초대 요청을 보낸 회원의 프로필 이미지")
     private String profileImg;
+    @Schema(description = "초대 인덱스 (다음 페이지 조회 시 마지막 값 전달)", example = "12")
+    private Long invitationId;
+    @Schema(description = "초대 시각 (다음 페이지 조회 시 마지막 값 전달)", example = "2023-08-01T00:47:39.123456")
+    private LocalDateTime invitedAt;
 }
@@ -0,0 +1,33 @@
+package com.spring.familymoments.domain.user.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "전체 회원정보 내보내기 관련 Response (한 줄에 한 명)")
+public class UserExportRes {
+    @Schema(description = "회원 인덱스", example = "1")
+    private Long userId;
+    @Schema(description = "회원 아이디", example = "familya4")
+    private String id;
+    @Schema(description = "회원 이메일", example = "family@gmail.com")
+    private String email;
+    @Schema(description = "회원 이름", example = "홍길동")
+    private String name;
+    @Schema(description = "회원 닉네임", example = "길동이")
+    private String nickname;
+    @Schema(description = "회원 생년월일")
+    private LocalDateTime birthDate;
+    @Schema(description = "회원 프로필 이미지")
+    private String profileImg;
+    @Schema(description = "회원 상태", example = "ACTIVE")
+    private String status;
+    @Schema(description = "가입 일시")
+    private LocalDateTime createdAt;
+}
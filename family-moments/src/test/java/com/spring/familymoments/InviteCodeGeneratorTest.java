@@ -0,0 +1,60 @@
+package com.spring.familymoments;
+
+import com.spring.familymoments.domain.family.InviteCodeGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 초대 코드 생성 규칙 (길이, 중복 없음, 서버 번호 범위)
+ */
+public class InviteCodeGeneratorTest {
+    private static final int COUNT = 200_000;
+
+    @Test
+    void 코드는_항상_11자리_영숫자이다() {
+        InviteCodeGenerator generator = new InviteCodeGenerator(1);
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(generator.generate())
+                    .hasSize(InviteCodeGenerator.CODE_LENGTH)
+                    .matches("[0-9A-Za-z]{11}");
+        }
+    }
+
+    @Test
+    void 같은_서버에서_연속으로_생성해도_중복되지_않는다() {
+        InviteCodeGenerator generator = new InviteCodeGenerator(1);
+        Set<String> codes = new HashSet<>();
+
+        for (int i = 0; i < COUNT; i++) {
+            codes.add(generator.generate());
+        }
+
+        assertThat(codes).hasSize(COUNT);
+    }
+
+    @Test
+    void 서버_번호가_다르면_같은_시각에_생성해도_중복되지_않는다() {
+        InviteCodeGenerator first = new InviteCodeGenerator(1);
+        InviteCodeGenerator second = new InviteCodeGenerator(2);
+        Set<String> codes = new HashSet<>();
+
+        for (int i = 0; i < COUNT; i++) {
+            codes.add(first.generate());
+            codes.add(second.generate());
+        }
+
+        assertThat(codes).hasSize(COUNT * 2);
+    }
+
+    @Test
+    void 서버_번호가_범위를_벗어나면_생성할_수_없다() {
+        assertThatThrownBy(() -> new InviteCodeGenerator(-1)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new InviteCodeGenerator(1024)).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,79 @@
+package com.spring.familymoments;
+
+import com.spring.familymoments.domain.user.RefreshTokenStore;
+import com.spring.familymoments.domain.user.RefreshTokenStore.RotationResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+public class RefreshTokenStoreTest {
+    private static final String PROVIDER = "Test";
+    private static final String PRINCIPAL = "rotation-test-uuid";
+    private static final int REQUESTS = 20;
+
+    @Autowired
+    private RefreshTokenStore refreshTokenStore;
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        refreshTokenStore.delete(PROVIDER, PRINCIPAL);
+    }
+
+    @Test
+    void 동시에_재발급하면_하나만_성공한다() throws Exception {
+        refreshTokenStore.save(PROVIDER, PRINCIPAL, "rt-0", 60_000);
+
+        ExecutorService executor = Executors.newFixedThreadPool(REQUESTS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<RotationResult>> futures = new ArrayList<>();
+        for (int i = 1; i <= REQUESTS; i++) {
+            String newToken = "rt-" + i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                return refreshTokenStore.rotate(PROVIDER, PRINCIPAL, "rt-0", newToken, 60_000);
+            }));
+        }
+        start.countDown();
+
+        int rotated = 0;
+        int reused = 0;
+        for (Future<RotationResult> future : futures) {
+            RotationResult result = future.get();
+            if (result == RotationResult.ROTATED) {
+                rotated++;
+            } else if (result == RotationResult.REUSED) {
+                reused++;
+            }
+        }
+        executor.shutdown();
+
+        assertThat(rotated).isEqualTo(1);
+        assertThat(reused).isEqualTo(REQUESTS - 1);
+        // 진 요청들 때문에 이긴 요청의 새 RT 가 지워지면 안 됨
+        assertThat(redisTemplate.opsForValue().get("RT(" + PROVIDER + "):" + PRINCIPAL)).startsWith("rt-").isNotEqualTo("rt-0");
+    }
+
+    @Test
+    void 저장된_RT와_다르면_탈취로_보고_삭제한다() {
+        refreshTokenStore.save(PROVIDER, PRINCIPAL, "rt-0", 60_000);
+
+        RotationResult result = refreshTokenStore.rotate(PROVIDER, PRINCIPAL, "forged", "rt-1", 60_000);
+
+        assertThat(result).isEqualTo(RotationResult.THEFT);
+        assertThat(redisTemplate.hasKey("RT(" + PROVIDER + "):" + PRINCIPAL)).isFalse();
+    }
+}
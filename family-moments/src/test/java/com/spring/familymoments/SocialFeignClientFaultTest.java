@@ -0,0 +1,131 @@
+package com.spring.familymoments;
+
+import com.spring.familymoments.config.BaseException;
+import com.spring.familymoments.domain.socialInfo.feign.ResilientFeignClient;
+import com.spring.familymoments.domain.socialInfo.feign.SocialProviderGuard;
+import com.sun.net.httpserver.HttpServer;
+import feign.Client;
+import feign.Feign;
+import feign.FeignException;
+import feign.Request;
+import feign.RequestLine;
+import feign.Retryer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.spring.familymoments.config.BaseResponseStatus.SOCIAL_SERVER_UNAVAILABLE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 응답을 지연시키는 로컬 서버로 소셜 서버 장애 상황 재현
+ */
+public class SocialFeignClientFaultTest {
+    private HttpServer server;
+    private final AtomicInteger hits = new AtomicInteger();
+    private volatile long delayMillis = 0;
+
+    interface StandInUserApi {
+        @RequestLine("GET /v2/user/me")
+        String getUserInfo();
+    }
+
+    @BeforeEach
+    void startServer() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/v2/user/me", exchange -> {
+            hits.incrementAndGet();
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "{}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void 느린_서버는_타임아웃_후_서킷이_열려서_호출하지_않는다() {
+        delayMillis = 500;
+        SocialProviderGuard guard = new SocialProviderGuard("kakao", 10, 3, 60_000);
+        StandInUserApi api = client(guard, 100);
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(api::getUserInfo).isInstanceOf(FeignException.class);
+        }
+        assertThat(guard.isOpen()).isTrue();
+
+        long start = System.nanoTime();
+        assertThatThrownBy(api::getUserInfo)
+                .isInstanceOf(BaseException.class)
+                .extracting("status").isEqualTo(SOCIAL_SERVER_UNAVAILABLE);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(100);
+        assertThat(hits.get()).isEqualTo(3);
+        assertThat(guard.getFailureCount()).isEqualTo(3);
+    }
+
+    @Test
+    void 시험_호출이_성공하면_서킷이_닫힌다() throws Exception {
+        delayMillis = 300;
+        SocialProviderGuard guard = new SocialProviderGuard("kakao", 10, 1, 200);
+        StandInUserApi api = client(guard, 100);
+
+        assertThatThrownBy(api::getUserInfo).isInstanceOf(FeignException.class);
+        assertThat(guard.isOpen()).isTrue();
+
+        delayMillis = 0;
+        Thread.sleep(250);
+        assertThat(api.getUserInfo()).isEqualTo("{}");
+        assertThat(guard.isOpen()).isFalse();
+    }
+
+    @Test
+    void 동시_호출_한도를_넘으면_기다리지_않고_거절한다() throws Exception {
+        delayMillis = 500;
+        SocialProviderGuard guard = new SocialProviderGuard("naver", 1, 5, 60_000);
+        StandInUserApi api = client(guard, 2_000);
+
+        CompletableFuture<String> slowCall = CompletableFuture.supplyAsync(api::getUserInfo);
+        while (hits.get() == 0) {
+            Thread.sleep(10);
+        }
+
+        long start = System.nanoTime();
+        assertThatThrownBy(api::getUserInfo).isInstanceOf(BaseException.class);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(100);
+
+        assertThat(slowCall.get()).isEqualTo("{}");
+        assertThat(guard.getRejectedCount()).isEqualTo(1);
+        assertThat(guard.getMaxLatencyMillis()).isGreaterThanOrEqualTo(500);
+    }
+
+    private StandInUserApi client(SocialProviderGuard guard, long readTimeoutMillis) {
+        Request.Options options = new Request.Options(
+                1_000, TimeUnit.MILLISECONDS, readTimeoutMillis, TimeUnit.MILLISECONDS, true);
+        Client client = new ResilientFeignClient(new Client.Default(null, null), guard, options, null);
+        return Feign.builder()
+                .client(client)
+                .retryer(Retryer.NEVER_RETRY)
+                .target(StandInUserApi.class, "http://localhost:" + server.getAddress().getPort());
+    }
+}